@@ -0,0 +1,175 @@
+package br.com.todolist.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark da busca por parte da categoria: 'LIKE %x%' sobre a tabela 'task' versus o índice de
+ * trigramas 'task_categoria_ngram'.
+ * 
+ * <p>Utiliza H2 em memória (modo MySQL) com o mesmo SQL gerado pelos métodos do TaskRepository. A
+ * tabela é populada uma única vez por fork com 'rows' Tasks (1 milhão por padrão) distribuídas entre
+ * categorias sintéticas, de forma que a categoria pesquisada seja seletiva.</p>
+ * 
+ * <p>Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.include=CategoriaSearchBenchmark</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class CategoriaSearchBenchmark {
+	
+	private static final String LIKE_QUERY = "SELECT id, titulo, categoria FROM task "
+			+ "WHERE LOWER(categoria) LIKE ? ESCAPE '!' ORDER BY id LIMIT 20";
+	
+	private static final String NGRAM_QUERY = "SELECT t.id, t.titulo, t.categoria FROM task t "
+			+ "WHERE t.id IN (SELECT g.task_id FROM task_categoria_ngram g WHERE g.ngram IN (%s) "
+			+ "GROUP BY g.task_id HAVING COUNT(g.ngram) = ?) "
+			+ "AND LOWER(t.categoria) LIKE ? ESCAPE '!' ORDER BY t.id LIMIT 20";
+	
+	@Param({ "1000000" })
+	private int rows;
+	
+	@Param({ "faculdade-042" })
+	private String categoria;
+	
+	private Connection connection;
+	private PreparedStatement likeStatement;
+	private PreparedStatement ngramStatement;
+	
+	@Setup(Level.Trial)
+	public void setup() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:h2:mem:categoria-bench;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE task (id BIGINT PRIMARY KEY, titulo VARCHAR(20) NOT NULL, categoria VARCHAR(20) NOT NULL)");
+			statement.execute("CREATE TABLE task_categoria_ngram (task_id BIGINT NOT NULL, ngram VARCHAR(3) NOT NULL, PRIMARY KEY (task_id, ngram))");
+		}
+		
+		populate();
+		
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE INDEX idx_task_categoria_ngram ON task_categoria_ngram (ngram, task_id)");
+			statement.execute("ANALYZE");
+		}
+		
+		List<String> ngrams = ngrams(categoria);
+		String placeholders = String.join(",", ngrams.stream().map(ngram -> "?").toList());
+		
+		likeStatement = connection.prepareStatement(LIKE_QUERY);
+		likeStatement.setString(1, "%" + categoria.toLowerCase(Locale.ROOT) + "%");
+		
+		ngramStatement = connection.prepareStatement(NGRAM_QUERY.formatted(placeholders));
+		int index = 1;
+		for(String ngram : ngrams) {
+			ngramStatement.setString(index++, ngram);
+		}
+		ngramStatement.setLong(index++, ngrams.size());
+		ngramStatement.setString(index, "%" + categoria.toLowerCase(Locale.ROOT) + "%");
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP ALL OBJECTS");
+		}
+		connection.close();
+	}
+	
+	@Benchmark
+	public int like() throws SQLException {
+		return consume(likeStatement);
+	}
+	
+	@Benchmark
+	public int ngramIndex() throws SQLException {
+		return consume(ngramStatement);
+	}
+	
+	private static int consume(PreparedStatement statement) throws SQLException {
+		int count = 0;
+		try (ResultSet resultSet = statement.executeQuery()) {
+			while(resultSet.next()) {
+				count += resultSet.getLong(1) > 0 ? 1 : 0;
+			}
+		}
+		return count;
+	}
+	
+	private void populate() throws SQLException {
+		String[] prefixes = { "faculdade", "trabalho", "casa", "academia", "mercado", "viagem", "saude", "estudos" };
+		Random random = new Random(42);
+		connection.setAutoCommit(false);
+		
+		try (PreparedStatement task = connection.prepareStatement("INSERT INTO task (id, titulo, categoria) VALUES (?, ?, ?)");
+				PreparedStatement ngram = connection.prepareStatement("INSERT INTO task_categoria_ngram (task_id, ngram) VALUES (?, ?)")) {
+			for(long id = 1; id <= rows; id++) {
+				String value = "%s-%03d".formatted(prefixes[random.nextInt(prefixes.length)], random.nextInt(1000));
+				
+				task.setLong(1, id);
+				task.setString(2, "Task " + id);
+				task.setString(3, value);
+				task.addBatch();
+				
+				for(String gram : ngrams(value)) {
+					ngram.setLong(1, id);
+					ngram.setString(2, gram);
+					ngram.addBatch();
+				}
+				
+				if(id % 10_000 == 0) {
+					task.executeBatch();
+					ngram.executeBatch();
+					connection.commit();
+				}
+			}
+			task.executeBatch();
+			ngram.executeBatch();
+			connection.commit();
+		}
+		connection.setAutoCommit(true);
+	}
+	
+	/**
+	 * Mesma geração de trigramas utilizada pelo CategoriaNgramIndex.
+	 */
+	private static List<String> ngrams(String value) {
+		String normalized = value.toLowerCase(Locale.ROOT);
+		List<String> ngrams = new ArrayList<>();
+		for(int i = 0; i + 3 <= normalized.length(); i++) {
+			String gram = normalized.substring(i, i + 3);
+			if(!ngrams.contains(gram)) {
+				ngrams.add(gram);
+			}
+		}
+		return ngrams;
+	}
+}
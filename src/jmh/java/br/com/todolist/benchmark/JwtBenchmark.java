@@ -0,0 +1,140 @@
+package br.com.todolist.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.converter.RsaKeyConverters;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+import br.com.todolist.cache.UserCache;
+import br.com.todolist.model.Role;
+import br.com.todolist.model.User;
+import br.com.todolist.repository.UserRepository;
+import br.com.todolist.security.CustomJwtAuthenticationConverter;
+import br.com.todolist.security.RevokedTokenValidator;
+import br.com.todolist.security.TokenDenyList;
+import br.com.todolist.service.JwtService;
+
+/**
+ * Benchmark do caminho de autenticação JWT: emissão do token (JwtService.generateToken), verificação da
+ * assinatura e dos claims (NimbusJwtDecoder) e conversão em Authentication (CustomJwtAuthenticationConverter).
+ * 
+ * <p>O encoder e o decoder são montados como no SecurityConfig, com as chaves app.key/app.pub, sem o
+ * contexto Spring. O conversor é medido nos dois modos de 'security.jwt.stateless': com os papéis lidos do
+ * token e com o usuário resolvido pelo UserCache, já populado, portanto sem acesso ao repositório. O modo é
+ * parâmetro somente do ConverterState, de forma que a emissão e a verificação são medidas uma única vez.</p>
+ * 
+ * <p>Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.include=JwtBenchmark. O profiler 'gc'
+ * reporta a alocação por operação (gc.alloc.rate.norm).</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+	
+	/**
+	 * Conversor configurado com o modo 'security.jwt.stateless' informado.
+	 */
+	@State(Scope.Benchmark)
+	public static class ConverterState {
+		
+		@Param({ "true", "false" })
+		private boolean stateless;
+		
+		private CustomJwtAuthenticationConverter converter;
+		
+		@Setup
+		public void setup(JwtBenchmark benchmark) {
+			UserRepository userRepository = Mockito.mock(UserRepository.class);
+			Mockito.when(userRepository.findById(benchmark.user.getId())).thenReturn(Optional.of(benchmark.user));
+			UserCache userCache = new UserCache(10_000, Duration.ofMinutes(5));
+			
+			converter = new CustomJwtAuthenticationConverter();
+			ReflectionTestUtils.setField(converter, "userRepository", userRepository);
+			ReflectionTestUtils.setField(converter, "userCache", userCache);
+			ReflectionTestUtils.setField(converter, "stateless", stateless);
+			converter.convert(benchmark.jwt);
+		}
+	}
+	
+	private JwtService jwtService;
+	private NimbusJwtDecoder jwtDecoder;
+	private User user;
+	private String token;
+	private Jwt jwt;
+	
+	@Setup
+	public void setup() throws IOException {
+		RSAPublicKey publicKey = read("app.pub", RsaKeyConverters.x509()::convert);
+		RSAPrivateKey privateKey = read("app.key", RsaKeyConverters.pkcs8()::convert);
+		
+		RSAKey jwk = new RSAKey.Builder(publicKey).privateKey(privateKey).build();
+		jwtService = new JwtService(new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk))));
+		
+		jwtDecoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
+		jwtDecoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+				JwtValidators.createDefault(), new RevokedTokenValidator(new TokenDenyList(null, 100_000, 0.01))));
+		
+		user = new User(1L, "giovani", List.of(Role.USER));
+		token = jwtService.generateToken(user);
+		jwt = jwtDecoder.decode(token);
+	}
+	
+	@Benchmark
+	public String generateToken() {
+		return jwtService.generateToken(user);
+	}
+	
+	@Benchmark
+	public Jwt decode() {
+		return jwtDecoder.decode(token);
+	}
+	
+	@Benchmark
+	public AbstractAuthenticationToken convert(ConverterState state) {
+		return state.converter.convert(jwt);
+	}
+	
+	private static <T> T read(String location, Function<InputStream, T> converter) throws IOException {
+		try (InputStream inputStream = new ClassPathResource(location).getInputStream()) {
+			return converter.apply(inputStream);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package br.com.todolist.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.todolist.dto.model.TaskRequestDTO;
+import br.com.todolist.dto.model.TaskResponseDTO;
+import br.com.todolist.mapper.TaskMapper;
+import br.com.todolist.model.Task;
+import br.com.todolist.model.enumeration.Prioridade;
+
+/**
+ * Benchmark comparativo entre o ModelMapper (reflexivo) e o TaskMapper gerado pelo MapStruct.
+ * 
+ * <p>Cobre as três conversões utilizadas pelo TaskService: criação da entidade, geração do DTO de
+ * resposta e atualização da entidade existente (utilizada no PUT).</p>
+ * 
+ * <p>Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.include=MapperBenchmark. O profiler 'gc'
+ * reporta a alocação por operação (gc.alloc.rate.norm).</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+	
+	private ModelMapper modelMapper;
+	private TaskMapper taskMapper;
+	private TaskRequestDTO taskRequestDTO;
+	private Task task;
+	
+	@Setup
+	public void setup() {
+		modelMapper = new ModelMapper();
+		taskMapper = Mappers.getMapper(TaskMapper.class);
+		
+		taskRequestDTO = new TaskRequestDTO("Atividade Giovani", "Desenvolver uma API To-do List",
+				Prioridade.ALTA, LocalDate.now().plusDays(10), false, "Faculdade");
+		task = new Task("Atividade Giovani", "Desenvolver uma API To-do List",
+				Prioridade.ALTA, LocalDate.now().plusDays(10), false, "Faculdade", LocalDateTime.now());
+	}
+	
+	@Benchmark
+	public Task modelMapperToEntity() {
+		return modelMapper.map(taskRequestDTO, Task.class);
+	}
+	
+	@Benchmark
+	public Task mapStructToEntity() {
+		return taskMapper.toEntity(taskRequestDTO);
+	}
+	
+	@Benchmark
+	public TaskResponseDTO modelMapperToResponseDTO() {
+		return modelMapper.map(task, TaskResponseDTO.class);
+	}
+	
+	@Benchmark
+	public TaskResponseDTO mapStructToResponseDTO() {
+		return taskMapper.toResponseDTO(task);
+	}
+	
+	@Benchmark
+	public Task modelMapperUpdateEntity() {
+		modelMapper.map(taskRequestDTO, task);
+		return task;
+	}
+	
+	@Benchmark
+	public Task mapStructUpdateEntity() {
+		taskMapper.updateEntity(taskRequestDTO, task);
+		return task;
+	}
+}
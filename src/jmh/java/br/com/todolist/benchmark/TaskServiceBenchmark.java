@@ -0,0 +1,120 @@
+package br.com.todolist.benchmark;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.todolist.ToDoListApplication;
+import br.com.todolist.cache.TaskJsonCache;
+import br.com.todolist.dto.model.TaskPatchDTO;
+import br.com.todolist.dto.model.TaskRequestDTO;
+import br.com.todolist.dto.model.TaskResponseDTO;
+import br.com.todolist.model.enumeration.Prioridade;
+import br.com.todolist.service.TaskService;
+
+/**
+ * Benchmark do TaskService com o contexto Spring completo sobre H2 em memória (perfil 'test').
+ * 
+ * <p>Mede as operações do serviço como executadas pelos 'endpoints', incluindo transação, Hibernate,
+ * mapeamento e os timers do Micrometer: criação, busca pelo ID (DTO e JSON em cache) e atualização
+ * parcial. As Tasks criadas são removidas ao fim de cada iteração.</p>
+ * 
+ * <p>Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.include=TaskServiceBenchmark. O profiler 'gc'
+ * reporta a alocação por operação (gc.alloc.rate.norm).</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskServiceBenchmark {
+	
+	private ConfigurableApplicationContext context;
+	private TaskService taskService;
+	private JdbcTemplate jdbcTemplate;
+	private TaskRequestDTO taskRequestDTO;
+	private TaskPatchDTO[] taskPatchDTOs;
+	private Long id;
+	private int patches;
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		context = new SpringApplicationBuilder(ToDoListApplication.class)
+				.profiles("test")
+				.properties("server.port=0", "management.server.port=-1", "logging.level.root=WARN")
+				.run();
+		taskService = context.getBean(TaskService.class);
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+		
+		taskRequestDTO = new TaskRequestDTO("Atividade Giovani", "Desenvolver uma API To-do List",
+				Prioridade.ALTA, LocalDate.now().plusDays(10), false, "Faculdade");
+		id = taskService.createTask(taskRequestDTO).getId();
+		
+		taskPatchDTOs = new TaskPatchDTO[] {
+				patch("Atividade Pedro"),
+				patch("Atividade Giovani")
+		};
+	}
+	
+	/**
+	 * Remove as Tasks criadas pelo 'createTask' (e o seu índice de categoria) ao fim de cada iteração, para
+	 * que a tabela não cresça ao longo da execução, o que afetaria as medições e o consumo de memória do H2.
+	 */
+	@TearDown(Level.Iteration)
+	public void deleteCreatedTasks() {
+		jdbcTemplate.update("DELETE FROM task_categoria_ngram WHERE task_id > ?", id);
+		jdbcTemplate.update("DELETE FROM task WHERE id > ?", id);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public TaskResponseDTO createTask() {
+		return taskService.createTask(taskRequestDTO);
+	}
+	
+	@Benchmark
+	public TaskResponseDTO getTaskById() {
+		return taskService.getTaskById(id);
+	}
+	
+	@Benchmark
+	public TaskJsonCache.Entry getTaskJson() {
+		return taskService.getTaskJson(id);
+	}
+	
+	@Benchmark
+	public TaskResponseDTO patchTask() {
+		return taskService.patchTask(id, taskPatchDTOs[patches++ & 1], null);
+	}
+	
+	private static TaskPatchDTO patch(String titulo) {
+		TaskPatchDTO taskPatchDTO = new TaskPatchDTO();
+		taskPatchDTO.setTitulo(Optional.of(titulo));
+		return taskPatchDTO;
+	}
+}
@@ -0,0 +1,220 @@
+package br.com.todolist.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import br.com.todolist.ToDoListApplication;
+import br.com.todolist.dto.model.TaskRequestDTO;
+import br.com.todolist.model.Role;
+import br.com.todolist.model.User;
+import br.com.todolist.model.enumeration.Prioridade;
+import br.com.todolist.repository.UserRepository;
+import br.com.todolist.service.TaskService;
+
+/**
+ * Gerador de carga HTTP de ponta a ponta para a API To-do List.
+ * 
+ * <p>Inicia a ToDoListApplication com H2 em memória (modo MySQL), cria um usuário, obtém o JWT por
+ * '/api/auth/authenticate' e popula as Tasks. Em seguida, dispara requisições aos 'endpoints' do
+ * TaskController em taxa fixa, conforme o mix informado.</p>
+ * 
+ * <p>A latência é medida a partir do instante em que cada requisição deveria ter sido enviada pelo
+ * agendamento, e não a partir do envio efetivo. Assim, quando a aplicação (ou o limite de conexões)
+ * atrasa o envio, a espera é contabilizada, corrigindo a omissão coordenada. Os valores são registrados em
+ * um HdrHistogram por 'endpoint'; as requisições do aquecimento são descartadas.</p>
+ * 
+ * <p>Execução: mvn -Pload-test test-compile exec:exec -Dload.args="rate=500 duration=120 mix=get=80,patch=20"</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public final class LoadGenerator {
+	
+	private static final String USERNAME = "load-test";
+	private static final String PASSWORD = "load-test";
+	
+	private final LoadOptions options;
+	private final HttpClient client;
+	private final URI baseUri;
+	private final Map<TaskEndpoint, Histogram> histograms = new EnumMap<>(TaskEndpoint.class);
+	private final Map<TaskEndpoint, LongAdder> errors = new EnumMap<>(TaskEndpoint.class);
+	private final TaskEndpoint[] schedule;
+	
+	private LoadGenerator(LoadOptions options, URI baseUri) {
+		this.options = options;
+		this.baseUri = baseUri;
+		this.client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+		
+		int totalWeight = options.mix().values().stream().mapToInt(Integer::intValue).sum();
+		this.schedule = new TaskEndpoint[totalWeight];
+		int index = 0;
+		for(Map.Entry<TaskEndpoint, Integer> weight : options.mix().entrySet()) {
+			histograms.put(weight.getKey(), new ConcurrentHistogram(3));
+			errors.put(weight.getKey(), new LongAdder());
+			for(int i = 0; i < weight.getValue(); i++) {
+				schedule[index++] = weight.getKey();
+			}
+		}
+	}
+	
+	public static void main(String[] args) throws IOException, InterruptedException {
+		LoadOptions options = LoadOptions.parse(args);
+		
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ToDoListApplication.class)
+				.profiles("test")
+				.properties("server.port=0", "management.server.port=-1", "logging.level.root=WARN",
+						"spring.datasource.url=jdbc:h2:mem:load-todolist;MODE=MySQL;DB_CLOSE_DELAY=-1")
+				.run()) {
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			LoadGenerator generator = new LoadGenerator(options, URI.create("http://localhost:" + port));
+			
+			long[] taskIds = seed(context, options.tasks());
+			String token = generator.authenticate(context);
+			generator.run(token, taskIds);
+			generator.report();
+		}
+	}
+	
+	/**
+	 * Cria o usuário do teste e obtém o JWT pelo 'endpoint' de autenticação.
+	 */
+	private String authenticate(ConfigurableApplicationContext context) throws IOException, InterruptedException {
+		PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+		User user = new User(null, USERNAME, List.of(Role.USER));
+		user.setPassword(passwordEncoder.encode(PASSWORD));
+		context.getBean(UserRepository.class).save(user);
+		
+		HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/auth/authenticate"))
+				.header("Content-Type", "application/json")
+				.POST(BodyPublishers.ofString("{\"username\":\"%s\",\"password\":\"%s\"}".formatted(USERNAME, PASSWORD)))
+				.build();
+		HttpResponse<String> response = client.send(request, BodyHandlers.ofString());
+		if(response.statusCode() != 200) {
+			throw new IllegalStateException("Authentication failed with status " + response.statusCode() + ".");
+		}
+		return response.body();
+	}
+	
+	/**
+	 * Popula as Tasks utilizadas pelos 'endpoints' de busca e alteração.
+	 */
+	private static long[] seed(ConfigurableApplicationContext context, int tasks) {
+		TaskService taskService = context.getBean(TaskService.class);
+		Random random = new Random(42);
+		long[] taskIds = new long[tasks];
+		for(int i = 0; i < tasks; i++) {
+			TaskRequestDTO taskRequestDTO = new TaskRequestDTO("Task " + i, "Gerada pelo LoadGenerator",
+					Prioridade.MEDIA, LocalDate.now().plusDays(30), false, TaskEndpoint.categoria(random));
+			taskIds[i] = taskService.createTask(taskRequestDTO).getId();
+		}
+		return taskIds;
+	}
+	
+	/**
+	 * Envia as requisições em taxa fixa durante o aquecimento e a medição.
+	 * 
+	 * <p>O instante previsto da i-ésima requisição é 'início + i / rate'. O envio é assíncrono e limitado
+	 * por 'connections'; quando o limite é atingido, o agendamento fica atrasado, mas a latência continua
+	 * sendo calculada a partir do instante previsto.</p>
+	 */
+	private void run(String token, long[] taskIds) {
+		Semaphore connections = new Semaphore(options.connections());
+		SplittableRandom random = new SplittableRandom(42);
+		Random requestRandom = new Random(42);
+		String authorization = "Bearer " + token;
+		
+		long start = System.nanoTime();
+		long measureFrom = start + options.warmup().toNanos();
+		long end = measureFrom + options.duration().toNanos();
+		
+		for(long i = 0; ; i++) {
+			long intended = start + i * TimeUnit.SECONDS.toNanos(1) / options.rate();
+			if(intended >= end) {
+				break;
+			}
+			for(long delay = intended - System.nanoTime(); delay > 0; delay = intended - System.nanoTime()) {
+				LockSupport.parkNanos(delay);
+			}
+			
+			TaskEndpoint endpoint = schedule[random.nextInt(schedule.length)];
+			HttpRequest request = endpoint.request(baseUri, taskIds[random.nextInt(taskIds.length)], requestRandom)
+					.header("Authorization", authorization)
+					.timeout(Duration.ofSeconds(30))
+					.build();
+			boolean measured = intended >= measureFrom;
+			
+			connections.acquireUninterruptibly();
+			client.sendAsync(request, BodyHandlers.discarding()).whenComplete((response, error) -> {
+				long latency = System.nanoTime() - intended;
+				connections.release();
+				if(!measured) {
+					return;
+				}
+				histograms.get(endpoint).recordValue(latency);
+				if(error != null || response.statusCode() >= 400) {
+					errors.get(endpoint).increment();
+				}
+			});
+		}
+		
+		connections.acquireUninterruptibly(options.connections());
+	}
+	
+	/**
+	 * Imprime a vazão e os percentis de latência de cada 'endpoint' e do total.
+	 */
+	private void report() {
+		double seconds = options.duration().toNanos() / 1e9;
+		Histogram total = new Histogram(3);
+		long totalErrors = 0;
+		
+		System.out.printf("%nrate=%d req/s, duration=%ds, warmup=%ds, connections=%d%n",
+				options.rate(), options.duration().toSeconds(), options.warmup().toSeconds(), options.connections());
+		System.out.printf("%-8s %10s %8s %10s %10s %10s %10s %10s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+		for(Map.Entry<TaskEndpoint, Histogram> entry : histograms.entrySet()) {
+			long endpointErrors = errors.get(entry.getKey()).sum();
+			print(entry.getKey().getName(), entry.getValue(), endpointErrors, seconds);
+			total.add(entry.getValue());
+			totalErrors += endpointErrors;
+		}
+		print("total", total, totalErrors, seconds);
+	}
+	
+	private static void print(String name, Histogram histogram, long errors, double seconds) {
+		System.out.printf("%-8s %10d %8d %10.1f %10.3f %10.3f %10.3f %10.3f%n", name, histogram.getTotalCount(), errors,
+				histogram.getTotalCount() / seconds, millis(histogram.getValueAtPercentile(50)),
+				millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+				millis(histogram.getMaxValue()));
+	}
+	
+	private static double millis(long nanos) {
+		return nanos / 1e6;
+	}
+}
@@ -0,0 +1,71 @@
+package br.com.todolist.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Opções do LoadGenerator, informadas como argumentos 'chave=valor'.
+ * 
+ * <ul>
+ *   <li>rate: requisições por segundo, somando todos os 'endpoints' (padrão 200);</li>
+ *   <li>duration: duração da medição em segundos (padrão 60);</li>
+ *   <li>warmup: duração do aquecimento em segundos, descartado do relatório (padrão 15);</li>
+ *   <li>connections: máximo de requisições simultâneas (padrão 64);</li>
+ *   <li>tasks: quantidade de Tasks criadas antes do teste (padrão 1000);</li>
+ *   <li>mix: peso de cada 'endpoint', por exemplo 'get=60,list=15,search=10,create=10,patch=5'.</li>
+ * </ul>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+record LoadOptions(int rate, Duration duration, Duration warmup, int connections, int tasks, Map<TaskEndpoint, Integer> mix) {
+	
+	private static final String DEFAULT_MIX = "get=60,list=15,search=10,create=10,patch=5";
+	
+	static LoadOptions parse(String[] args) {
+		int rate = 200;
+		long duration = 60;
+		long warmup = 15;
+		int connections = 64;
+		int tasks = 1000;
+		String mix = DEFAULT_MIX;
+		
+		for(String arg : args) {
+			String[] option = arg.split("=", 2);
+			if(option.length != 2) {
+				throw new IllegalArgumentException("Invalid option '" + arg + "', expected key=value.");
+			}
+			switch (option[0]) {
+				case "rate" -> rate = Integer.parseInt(option[1]);
+				case "duration" -> duration = Long.parseLong(option[1]);
+				case "warmup" -> warmup = Long.parseLong(option[1]);
+				case "connections" -> connections = Integer.parseInt(option[1]);
+				case "tasks" -> tasks = Integer.parseInt(option[1]);
+				case "mix" -> mix = option[1];
+				default -> throw new IllegalArgumentException("Unknown option '" + option[0] + "'.");
+			}
+		}
+		
+		if(rate <= 0 || connections <= 0 || tasks <= 0) {
+			throw new IllegalArgumentException("rate, connections and tasks must be positive.");
+		}
+		return new LoadOptions(rate, Duration.ofSeconds(duration), Duration.ofSeconds(warmup), connections, tasks, parseMix(mix));
+	}
+	
+	private static Map<TaskEndpoint, Integer> parseMix(String mix) {
+		Map<TaskEndpoint, Integer> weights = new EnumMap<>(TaskEndpoint.class);
+		for(String entry : mix.split(",")) {
+			String[] weight = entry.trim().split("=", 2);
+			int value = Integer.parseInt(weight[1].trim());
+			if(value > 0) {
+				weights.put(TaskEndpoint.from(weight[0].trim()), value);
+			}
+		}
+		if(weights.isEmpty()) {
+			throw new IllegalArgumentException("The mix must contain at least one endpoint.");
+		}
+		return weights;
+	}
+}
@@ -0,0 +1,92 @@
+package br.com.todolist.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Endpoints do TaskController exercitados pelo LoadGenerator.
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+enum TaskEndpoint {
+	
+	GET("get") {
+		@Override
+		HttpRequest.Builder request(URI baseUri, long taskId, Random random) {
+			return HttpRequest.newBuilder(baseUri.resolve("/api/tasks/" + taskId)).GET();
+		}
+	},
+	LIST("list") {
+		@Override
+		HttpRequest.Builder request(URI baseUri, long taskId, Random random) {
+			return HttpRequest.newBuilder(baseUri.resolve("/api/tasks?page=" + random.nextInt(10) + "&size=20&count=approximate")).GET();
+		}
+	},
+	SEARCH("search") {
+		@Override
+		HttpRequest.Builder request(URI baseUri, long taskId, Random random) {
+			return HttpRequest.newBuilder(baseUri.resolve("/api/tasks/search?categoria=" + categoria(random) + "&size=20")).GET();
+		}
+	},
+	CREATE("create") {
+		@Override
+		HttpRequest.Builder request(URI baseUri, long taskId, Random random) {
+			return HttpRequest.newBuilder(baseUri.resolve("/api/tasks"))
+					.header("Content-Type", "application/json")
+					.POST(BodyPublishers.ofString(taskJson("Task " + random.nextInt(100_000), categoria(random))));
+		}
+	},
+	PATCH("patch") {
+		@Override
+		HttpRequest.Builder request(URI baseUri, long taskId, Random random) {
+			return HttpRequest.newBuilder(baseUri.resolve("/api/tasks/" + taskId))
+					.header("Content-Type", "application/json")
+					.method("PATCH", BodyPublishers.ofString("{\"titulo\":\"Task " + random.nextInt(100_000) + "\"}"));
+		}
+	};
+	
+	private static final String[] CATEGORIAS = { "faculdade", "trabalho", "casa", "academia", "mercado", "viagem", "saude", "estudos" };
+	
+	private final String name;
+	
+	TaskEndpoint(String name) {
+		this.name = name;
+	}
+	
+	/**
+	 * Monta a requisição do endpoint, sem o cabeçalho de autenticação.
+	 * 
+	 * @param Recebe o endereço base da aplicação.
+	 * @param Recebe o ID de uma Task existente, sorteado pelo LoadGenerator.
+	 * @param Recebe o gerador de números aleatórios da thread.
+	 * @return Retorna o HttpRequest.Builder da requisição.
+	 */
+	abstract HttpRequest.Builder request(URI baseUri, long taskId, Random random);
+	
+	String getName() {
+		return name;
+	}
+	
+	static TaskEndpoint from(String name) {
+		for(TaskEndpoint endpoint : values()) {
+			if(endpoint.name.equals(name)) {
+				return endpoint;
+			}
+		}
+		throw new IllegalArgumentException("Unknown endpoint '" + name + "'.");
+	}
+	
+	static String categoria(Random random) {
+		return CATEGORIAS[random.nextInt(CATEGORIAS.length)];
+	}
+	
+	static String taskJson(String titulo, String categoria) {
+		return "{\"titulo\":\"%s\",\"descricao\":\"Gerada pelo LoadGenerator\",\"prioridade\":\"MEDIA\",\"dataLimite\":\"%s\",\"concluida\":false,\"categoria\":\"%s\"}"
+				.formatted(titulo, LocalDate.now().plusDays(30), categoria);
+	}
+}
@@ -2,6 +2,7 @@ package br.com.todolist;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
@@ -21,6 +22,7 @@ import io.swagger.v3.oas.annotations.info.Info;
  */
 @OpenAPIDefinition(info = @Info(title = "To-do List", version = "1.0", description = "Documentação da API To-do List"))
 @SpringBootApplication
+@EnableScheduling
 public class ToDoListApplication {
 	
 	/**
@@ -0,0 +1,200 @@
+package br.com.todolist.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Alocador de blocos de memória direta para o TaskJsonCache, organizado em 'slabs'.
+ * 
+ * <p>Ao invés de um ByteBuffer direto por entrada (cada um com o seu objeto 'Cleaner' e a possibilidade de
+ * um 'System.gc()' quando o limite de memória direta é atingido), a memória é reservada em 'slabs' de 1 MB,
+ * divididos em blocos de tamanho fixo. Os tamanhos são potências de dois entre 256 bytes e 64 KB, e cada
+ * JSON ocupa o menor bloco que o comporta.</p>
+ * 
+ * <p>Os blocos liberados voltam para o seu 'slab' e são reutilizados pelas próximas entradas do mesmo
+ * tamanho. A memória direta nunca é devolvida, portanto a memória reservada é limitada pela capacidade
+ * informada. Quando a capacidade se esgota, um 'slab' vazio de outro tamanho é reaproveitado e dividido
+ * novamente, de forma que um tamanho não retém para sempre a memória que os demais precisam. Não havendo
+ * bloco livre nem 'slab' vazio, a alocação falha e cabe ao chamador liberar entradas.</p>
+ * 
+ * <p>É seguro para uso concorrente.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+final class JsonSlabAllocator {
+	
+	static final int SLAB_SIZE = 1 << 20;
+	static final int MIN_CHUNK_SIZE = 1 << 8;
+	static final int MAX_CHUNK_SIZE = 1 << 16;
+	
+	/**
+	 * Bloco obtido pelo 'allocate', que deve ser devolvido pelo 'free'.
+	 */
+	static final class Chunk {
+		
+		private final Slab slab;
+		private final int index;
+		private final ByteBuffer buffer;
+		
+		private Chunk(Slab slab, int index, ByteBuffer buffer) {
+			this.slab = slab;
+			this.index = index;
+			this.buffer = buffer;
+		}
+		
+		/**
+		 * Retorna a memória do bloco, com a posição zerada e o limite igual à sua capacidade.
+		 */
+		ByteBuffer buffer() {
+			return buffer;
+		}
+	}
+	
+	/**
+	 * Região de memória direta dividida em blocos de um único tamanho, com a pilha dos blocos livres.
+	 */
+	private static final class Slab {
+		
+		private final ByteBuffer memory;
+		private final int sizeClass;
+		private final int chunkSize;
+		private final int[] freeIndexes;
+		private int freeCount;
+		
+		private Slab(ByteBuffer memory, int sizeClass) {
+			this.memory = memory;
+			this.sizeClass = sizeClass;
+			this.chunkSize = MIN_CHUNK_SIZE << sizeClass;
+			this.freeIndexes = new int[memory.capacity() / chunkSize];
+			for(int i = 0; i < freeIndexes.length; i++) {
+				freeIndexes[i] = freeIndexes.length - 1 - i;
+			}
+			this.freeCount = freeIndexes.length;
+		}
+		
+		private boolean isEmpty() {
+			return freeCount == freeIndexes.length;
+		}
+	}
+	
+	private final long capacity;
+	private final int slabSize;
+	private final Deque<Slab>[] partialSlabs;
+	private long reserved;
+	
+	@SuppressWarnings("unchecked")
+	JsonSlabAllocator(long capacity) {
+		this.capacity = capacity;
+		this.slabSize = (int) Math.min(SLAB_SIZE, capacity);
+		this.partialSlabs = new Deque[sizeClass(MAX_CHUNK_SIZE) + 1];
+		for(int i = 0; i < partialSlabs.length; i++) {
+			partialSlabs[i] = new ArrayDeque<>();
+		}
+	}
+	
+	/**
+	 * Retorna um bloco livre com pelo menos a quantidade de bytes informada.
+	 * 
+	 * @param Recebe a quantidade de bytes necessária.
+	 * @return Retorna o bloco, ou nulo caso o tamanho exceda o 'maxChunkSize' ou não haja bloco livre nem
+	 * memória para um novo 'slab'.
+	 */
+	synchronized Chunk allocate(int size) {
+		if(size > maxChunkSize()) {
+			return null;
+		}
+		
+		int sizeClass = sizeClass(size);
+		Deque<Slab> slabs = partialSlabs[sizeClass];
+		Slab slab = slabs.peekFirst();
+		if(slab == null) {
+			ByteBuffer memory = reserve();
+			if(memory == null) {
+				return null;
+			}
+			slab = new Slab(memory, sizeClass);
+			slabs.addFirst(slab);
+		}
+		
+		int index = slab.freeIndexes[--slab.freeCount];
+		if(slab.freeCount == 0) {
+			slabs.pollFirst();
+		}
+		return new Chunk(slab, index, slab.memory.slice(index * slab.chunkSize, slab.chunkSize));
+	}
+	
+	/**
+	 * Devolve o bloco para reutilização.
+	 * 
+	 * @param Recebe o bloco obtido pelo 'allocate'.
+	 */
+	synchronized void free(Chunk chunk) {
+		Slab slab = chunk.slab;
+		if(slab.freeCount == 0) {
+			partialSlabs[slab.sizeClass].addLast(slab);
+		}
+		slab.freeIndexes[slab.freeCount++] = chunk.index;
+	}
+	
+	/**
+	 * Retorna a quantidade de memória direta já reservada em 'slabs'.
+	 */
+	synchronized long reservedBytes() {
+		return reserved;
+	}
+	
+	/**
+	 * Retorna o maior tamanho de JSON que pode ser alocado.
+	 */
+	int maxChunkSize() {
+		return slabSize < MIN_CHUNK_SIZE ? 0 : Math.min(MAX_CHUNK_SIZE, Integer.highestOneBit(slabSize));
+	}
+	
+	/**
+	 * Retorna a quantidade máxima de blocos em um 'slab', isto é, de blocos do menor tamanho.
+	 */
+	int maxChunksPerSlab() {
+		return slabSize / MIN_CHUNK_SIZE;
+	}
+	
+	/**
+	 * Retorna o tamanho do bloco utilizado para a quantidade de bytes informada.
+	 */
+	static int chunkSize(int size) {
+		return MIN_CHUNK_SIZE << sizeClass(size);
+	}
+	
+	/**
+	 * Reserva a memória de um novo 'slab' ou, com a capacidade esgotada, reaproveita um 'slab' vazio de
+	 * qualquer tamanho.
+	 */
+	private ByteBuffer reserve() {
+		if(reserved + slabSize <= capacity) {
+			reserved += slabSize;
+			return ByteBuffer.allocateDirect(slabSize);
+		}
+		
+		for(Deque<Slab> slabs : partialSlabs) {
+			for(Iterator<Slab> iterator = slabs.iterator(); iterator.hasNext();) {
+				Slab slab = iterator.next();
+				if(slab.isEmpty()) {
+					iterator.remove();
+					return slab.memory;
+				}
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Retorna o índice do menor tamanho de bloco que comporta a quantidade de bytes informada.
+	 */
+	private static int sizeClass(int size) {
+		int chunkSize = Math.max(MIN_CHUNK_SIZE, Integer.highestOneBit(Math.max(1, size - 1)) << 1);
+		return Integer.numberOfTrailingZeros(chunkSize) - Integer.numberOfTrailingZeros(MIN_CHUNK_SIZE);
+	}
+}
@@ -0,0 +1,122 @@
+package br.com.todolist.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Agrupa cargas idênticas e simultâneas em uma única execução ('single-flight').
+ * 
+ * <p>A primeira chamada para uma chave registra um CompletableFuture e executa a carga; as chamadas
+ * seguintes, feitas enquanto a carga estiver em andamento, aguardam o mesmo resultado em vez de repetir
+ * a consulta. O registro é feito com 'putIfAbsent' em um ConcurrentHashMap, sem nenhum lock mantido
+ * durante a carga, e a chave é removida assim que ela termina, portanto nenhum resultado é armazenado.</p>
+ * 
+ * <p>Como quem aguarda recebe o resultado de uma carga iniciada antes da sua chamada, a chave deve
+ * identificar exatamente o dado esperado (por exemplo, incluindo a versão da Task). O resultado é
+ * compartilhado entre as chamadas e não deve ser alterado.</p>
+ * 
+ * @param <K> Tipo da chave da carga.
+ * @param <V> Tipo do resultado da carga.
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class SingleFlight<K, V> implements MeterBinder {
+	
+	private final String name;
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder executions = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	
+	public SingleFlight(String name) {
+		this.name = name;
+	}
+	
+	/**
+	 * Executa a carga da chave, ou aguarda a carga já em andamento para a mesma chave.
+	 * 
+	 * @param Recebe a chave da carga.
+	 * @param Recebe a função que realiza a carga.
+	 * @return Retorna o resultado da carga.
+	 * @throws Retorna a mesma exceção lançada pela carga, tanto para quem a executou quanto para quem a aguardou.
+	 */
+	public V execute(K key, Supplier<V> loader) {
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+		if(running != null) {
+			coalesced.increment();
+			return await(running);
+		}
+		
+		executions.increment();
+		try {
+			V value = loader.get();
+			flight.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+	
+	private V await(CompletableFuture<V> running) {
+		try {
+			return running.join();
+		} catch (CompletionException e) {
+			if(e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if(e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+	
+	/**
+	 * Retorna a quantidade de cargas efetivamente executadas.
+	 * 
+	 * @return Retorna o total de execuções.
+	 */
+	public long executions() {
+		return executions.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de chamadas atendidas por uma carga já em andamento.
+	 * 
+	 * @return Retorna o total de chamadas agrupadas.
+	 */
+	public long coalesced() {
+		return coalesced.sum();
+	}
+	
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("singleflight.calls", this, SingleFlight::executions)
+				.description("Chamadas que executaram a carga")
+				.tag("name", name)
+				.tag("result", "executed")
+				.register(registry);
+		FunctionCounter.builder("singleflight.calls", this, SingleFlight::coalesced)
+				.description("Chamadas atendidas por uma carga em andamento")
+				.tag("name", name)
+				.tag("result", "coalesced")
+				.register(registry);
+		Gauge.builder("singleflight.in.flight", inFlight, ConcurrentHashMap::size)
+				.description("Cargas em andamento")
+				.tag("name", name)
+				.register(registry);
+	}
+}
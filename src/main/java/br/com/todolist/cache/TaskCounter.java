@@ -0,0 +1,72 @@
+package br.com.todolist.cache;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.todolist.repository.TaskRepository;
+
+/**
+ * Contador aproximado de Tasks mantido em cache.
+ * 
+ * <p>Atende as respostas paginadas com 'count=approximate', evitando um 'SELECT count(*)' a cada
+ * requisição. Os totais são recalculados somente após a expiração da entrada, portanto podem
+ * estar defasados dentro desse intervalo.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class TaskCounter {
+	
+	private static final String ALL = "*";
+	
+	private final TaskRepository taskRepository;
+	private final Cache<String, Long> counts;
+	
+	public TaskCounter(TaskRepository taskRepository,
+			@Value("${cache.task-count.maximum-size:1000}") long maximumSize,
+			@Value("${cache.task-count.ttl:30s}") Duration ttl) {
+		this.taskRepository = taskRepository;
+		this.counts = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+	}
+	
+	/**
+	 * Retorna o total aproximado de Tasks.
+	 * 
+	 * @return Retorna o total em cache ou recém calculado.
+	 */
+	public long approximateTotal() {
+		return counts.get(ALL, key -> taskRepository.count());
+	}
+	
+	/**
+	 * Retorna o total aproximado de Tasks cuja categoria contém o texto informado.
+	 * 
+	 * @param Recebe a categoria no formato String.
+	 * @param Recebe a função que calcula o total exato, executada somente quando não há valor em cache.
+	 * @return Retorna o total em cache ou recém calculado.
+	 */
+	public long approximateByCategoria(String categoria, LongSupplier counter) {
+		return counts.get("categoria:" + categoria.toLowerCase(), key -> counter.getAsLong());
+	}
+	
+	/**
+	 * Retorna o cache subjacente, utilizado para registro de métricas.
+	 * 
+	 * @return Retorna o Cache do Caffeine.
+	 */
+	public Cache<String, Long> nativeCache() {
+		return counts;
+	}
+}
@@ -0,0 +1,246 @@
+package br.com.todolist.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+/**
+ * Cache do JSON já serializado das Tasks, armazenado fora do heap.
+ * 
+ * <p>Cada entrada guarda os bytes do TaskResponseDTO em um bloco de memória direta, junto da versão da Task
+ * que os originou. Assim, o conteúdo não ocupa o heap e não é percorrido pelo coletor de lixo; somente o
+ * pequeno objeto que referencia o bloco permanece no heap. Os blocos são obtidos do JsonSlabAllocator e
+ * devolvidos a ele quando a entrada é removida, sem uma alocação de memória direta por entrada.</p>
+ * 
+ * <p>Como um bloco devolvido é reutilizado por outra Task, quem escreve o JSON deve reter a entrada
+ * ('retain') antes da escrita e liberá-la ('release') depois. O bloco só volta para o alocador quando a
+ * entrada foi removida do cache e não há mais nenhuma retenção. A retenção falha caso a entrada já tenha sido
+ * removida e liberada; nesse caso, o JSON deve ser obtido novamente.</p>
+ * 
+ * <p>O cache é limitado pela quantidade total de bytes dos blocos. Quando o alocador não tem bloco livre, as
+ * entradas mais frias são removidas, primeiro as do mesmo tamanho de bloco, até que a alocação seja possível,
+ * removendo no máximo a quantidade de entradas de um 'slab'. JSONs maiores que o maior bloco, ou que ainda
+ * assim não encontram bloco, não são armazenados: a entrada é devolvida ao chamador sobre um array do
+ * heap.</p>
+ * 
+ * <p>Como a versão faz parte da entrada, quem consulta o cache deve compará-la com a versão atual da Task,
+ * exceto para Tasks concluídas, que não podem mais ser alteradas.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class TaskJsonCache {
+	
+	/**
+	 * JSON serializado de uma Task em uma determinada versão.
+	 */
+	public static final class Entry {
+		
+		private static final ThreadLocal<byte[]> TRANSFER_BUFFER = ThreadLocal.withInitial(() -> new byte[8192]);
+		
+		private final long versao;
+		private final boolean concluida;
+		private final ByteBuffer json;
+		private final JsonSlabAllocator allocator;
+		private final JsonSlabAllocator.Chunk chunk;
+		private final AtomicInteger references = new AtomicInteger(1);
+		
+		private Entry(long versao, boolean concluida, ByteBuffer json, JsonSlabAllocator allocator,
+				JsonSlabAllocator.Chunk chunk) {
+			this.versao = versao;
+			this.concluida = concluida;
+			this.json = json;
+			this.allocator = allocator;
+			this.chunk = chunk;
+		}
+		
+		public long getVersao() {
+			return versao;
+		}
+		
+		/**
+		 * Indica se a Task estava concluída. Tasks concluídas não podem ser alteradas nem excluídas,
+		 * portanto a entrada permanece válida sem a verificação da versão.
+		 * 
+		 * @return Retorna true caso a Task esteja concluída.
+		 */
+		public boolean isConcluida() {
+			return concluida;
+		}
+		
+		/**
+		 * Retorna o tamanho do JSON em bytes.
+		 */
+		public int getSize() {
+			return json.limit();
+		}
+		
+		/**
+		 * Retém o bloco da entrada, impedindo que ele seja reutilizado até o 'release' correspondente.
+		 * 
+		 * @return Retorna false caso a entrada já tenha sido removida e o seu bloco liberado.
+		 */
+		public boolean retain() {
+			int current;
+			do {
+				current = references.get();
+				if(current == 0) {
+					return false;
+				}
+			} while(!references.compareAndSet(current, current + 1));
+			return true;
+		}
+		
+		/**
+		 * Libera uma retenção, devolvendo o bloco ao alocador quando não houver mais nenhuma.
+		 */
+		public void release() {
+			if(references.decrementAndGet() == 0 && chunk != null) {
+				allocator.free(chunk);
+			}
+		}
+		
+		/**
+		 * Escreve o JSON no fluxo de saída, através de um array de transferência reutilizado por thread,
+		 * sem criar uma cópia do JSON no heap. A entrada deve estar retida durante a escrita.
+		 * 
+		 * @param Recebe o fluxo de saída da resposta.
+		 */
+		public void writeTo(OutputStream outputStream) throws IOException {
+			ByteBuffer source = json.duplicate();
+			byte[] transfer = TRANSFER_BUFFER.get();
+			while(source.hasRemaining()) {
+				int length = Math.min(transfer.length, source.remaining());
+				source.get(transfer, 0, length);
+				outputStream.write(transfer, 0, length);
+			}
+		}
+		
+		private int weight() {
+			return json.capacity();
+		}
+	}
+	
+	private static final int EVICTION_BATCH = 64;
+	
+	private final JsonSlabAllocator allocator;
+	private final Cache<Long, Entry> cache;
+	
+	public TaskJsonCache(@Value("${cache.task-json.maximum-size:64MB}") DataSize maximumSize) {
+		this.allocator = new JsonSlabAllocator(maximumSize.toBytes());
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(maximumSize.toBytes())
+				.weigher((Long id, Entry entry) -> entry.weight())
+				.removalListener((Long id, Entry entry, RemovalCause cause) -> entry.release())
+				.executor(Runnable::run)
+				.recordStats()
+				.build();
+	}
+	
+	/**
+	 * Retorna a entrada da Task, em qualquer versão.
+	 * 
+	 * @param Recebe o ID da Task no formato Long.
+	 * @return Retorna a Entry em cache, ou nulo caso não exista.
+	 */
+	public Entry get(Long id) {
+		return cache.getIfPresent(id);
+	}
+	
+	/**
+	 * Armazena o JSON da Task, copiando-o para um bloco de memória direta.
+	 * 
+	 * @param Recebe o ID da Task no formato Long.
+	 * @param Recebe a versão da Task serializada.
+	 * @param Recebe o status de conclusão da Task serializada.
+	 * @param Recebe os bytes do JSON em UTF-8.
+	 * @return Retorna a Entry criada, que não é armazenada caso não haja bloco disponível.
+	 */
+	public Entry put(Long id, long versao, boolean concluida, byte[] json) {
+		JsonSlabAllocator.Chunk chunk = json.length <= allocator.maxChunkSize() ? allocate(json.length) : null;
+		if(chunk == null) {
+			cache.invalidate(id);
+			return new Entry(versao, concluida, ByteBuffer.wrap(json).asReadOnlyBuffer(), null, null);
+		}
+		
+		Entry entry = new Entry(versao, concluida, chunk.buffer().put(json).flip(), allocator, chunk);
+		cache.put(id, entry);
+		return entry;
+	}
+	
+	/**
+	 * Obtém um bloco do alocador. Sem bloco livre, remove as entradas mais frias, em lotes, até que a
+	 * alocação seja possível. Em cada lote, as entradas do mesmo tamanho de bloco são removidas primeiro, pois
+	 * devolvem diretamente um bloco utilizável; as demais só ajudam quando esvaziam um 'slab' inteiro, que
+	 * então é dividido novamente para o tamanho necessário.
+	 */
+	private JsonSlabAllocator.Chunk allocate(int size) {
+		JsonSlabAllocator.Chunk chunk = allocator.allocate(size);
+		if(chunk != null) {
+			return chunk;
+		}
+		
+		Policy.Eviction<Long, Entry> eviction = cache.policy().eviction().orElseThrow();
+		int chunkSize = JsonSlabAllocator.chunkSize(size);
+		int batches = Math.max(1, allocator.maxChunksPerSlab() / EVICTION_BATCH);
+		for(int batch = 0; batch < batches; batch++) {
+			Map<Long, Entry> coldest = eviction.coldest(EVICTION_BATCH);
+			if(coldest.isEmpty()) {
+				return null;
+			}
+			
+			for(boolean sameSize : new boolean[] {true, false}) {
+				for(Map.Entry<Long, Entry> victim : coldest.entrySet()) {
+					if((victim.getValue().weight() == chunkSize) == sameSize
+							&& cache.asMap().remove(victim.getKey(), victim.getValue())) {
+						chunk = allocator.allocate(size);
+						if(chunk != null) {
+							return chunk;
+						}
+					}
+				}
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Remove a Task do cache.
+	 * 
+	 * @param Recebe o ID da Task no formato Long.
+	 */
+	public void invalidate(Long id) {
+		cache.invalidate(id);
+	}
+	
+	/**
+	 * Retorna o cache subjacente, utilizado para registro de métricas.
+	 * 
+	 * @return Retorna o Cache do Caffeine.
+	 */
+	public Cache<Long, Entry> nativeCache() {
+		return cache;
+	}
+	
+	/**
+	 * Retorna a quantidade de memória direta reservada pelo alocador, utilizada para registro de métricas.
+	 * 
+	 * @return Retorna a quantidade de bytes reservados.
+	 */
+	public long reservedBytes() {
+		return allocator.reservedBytes();
+	}
+}
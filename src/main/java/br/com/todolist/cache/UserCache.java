@@ -0,0 +1,93 @@
+package br.com.todolist.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import br.com.todolist.model.Role;
+import br.com.todolist.model.User;
+
+/**
+ * Cache em memória dos usuários resolvidos a partir do claim 'userId' do JWT.
+ * 
+ * <p>Evita que cada requisição autenticada realize uma consulta ao banco de dados apenas para
+ * reconstruir o 'UserAuthenticated'. O cache é limitado em quantidade de entradas e as entradas
+ * expiram após o tempo configurado.</p>
+ * 
+ * <p>As entradas são invalidadas pelo 'UserCacheInvalidationListener' sempre que um registro de
+ * 'User' é alterado ou removido.</p>
+ * 
+ * <p>São armazenadas cópias contendo somente o ID, o username e os papéis. O hash da senha, necessário
+ * apenas no login, permanece somente no cache de segundo nível do Hibernate e não é duplicado aqui.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class UserCache {
+	
+	private final Cache<Long, User> cache;
+	
+	public UserCache(@Value("${cache.users.maximum-size:10000}") long maximumSize,
+			@Value("${cache.users.ttl:5m}") Duration ttl) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+	}
+	
+	/**
+	 * Retorna o usuário em cache ou o carrega através da função informada.
+	 * 
+	 * @param Recebe o ID do usuário no formato Long.
+	 * @param Recebe a função responsável por carregar o usuário caso ele não esteja em cache.
+	 * @return Retorna um Optional com o usuário sem a senha, vazio caso ele não exista.
+	 */
+	public Optional<User> get(Long userId, Function<Long, Optional<User>> loader) {
+		return Optional.ofNullable(cache.get(userId, id -> loader.apply(id).map(UserCache::withoutPassword).orElse(null)));
+	}
+	
+	private static User withoutPassword(User user) {
+		List<Role> roles = user.getRoles() == null ? List.of() : List.copyOf(user.getRoles());
+		return new User(user.getId(), user.getUsername(), roles);
+	}
+	
+	/**
+	 * Remove o usuário do cache.
+	 * 
+	 * @param Recebe o ID do usuário no formato Long.
+	 */
+	public void invalidate(Long userId) {
+		if(userId != null) {
+			cache.invalidate(userId);
+		}
+	}
+	
+	/**
+	 * Retorna as estatísticas de acerto, falha e remoção do cache.
+	 * 
+	 * @return Retorna um CacheStats com as métricas acumuladas.
+	 */
+	public CacheStats stats() {
+		return cache.stats();
+	}
+	
+	/**
+	 * Retorna o cache subjacente, utilizado para registro de métricas.
+	 * 
+	 * @return Retorna o Cache do Caffeine.
+	 */
+	public Cache<Long, User> nativeCache() {
+		return cache;
+	}
+}
@@ -0,0 +1,33 @@
+package br.com.todolist.cache;
+
+import org.springframework.stereotype.Component;
+
+import br.com.todolist.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA responsável por manter o 'UserCache' consistente com o banco de dados.
+ * 
+ * <p>Sempre que um 'User' é atualizado ou removido, a entrada correspondente é retirada do cache,
+ * forçando a próxima requisição autenticada a recarregar o usuário.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class UserCacheInvalidationListener {
+	
+	private final UserCache userCache;
+	
+	public UserCacheInvalidationListener(UserCache userCache) {
+		this.userCache = userCache;
+	}
+	
+	@PostUpdate
+	@PostRemove
+	public void invalidate(User user) {
+		userCache.invalidate(user.getId());
+	}
+}
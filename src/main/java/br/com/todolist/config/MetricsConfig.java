@@ -0,0 +1,38 @@
+package br.com.todolist.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.todolist.cache.TaskJsonCache;
+import br.com.todolist.cache.UserCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Configuração das métricas da aplicação.
+ * 
+ * <p>Os timers dos serviços ('todolist.service') são criados pelo TimedAspect a partir da anotação
+ * {@code @Timed}, habilitada por 'management.observations.annotations.enabled'. As chamadas aos
+ * repositórios são medidas pelo Spring Data ('spring.data.repository.invocations'). Aqui são
+ * registrados os caches mantidos pela aplicação.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+public class MetricsConfig {
+    
+    @Bean
+    public MeterBinder cacheMetrics(UserCache userCache, TaskJsonCache taskJsonCache) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, userCache.nativeCache(), "users");
+            CaffeineCacheMetrics.monitor(registry, taskJsonCache.nativeCache(), "task-json");
+            Gauge.builder("cache.task-json.reserved", taskJsonCache, TaskJsonCache::reservedBytes)
+                    .description("Direct memory reserved in slabs by the task JSON cache")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+}
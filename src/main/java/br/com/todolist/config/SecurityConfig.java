@@ -4,6 +4,7 @@ import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -11,8 +12,10 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -21,7 +24,13 @@ import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import br.com.todolist.security.CustomJwtAuthenticationConverter;
+import br.com.todolist.security.RevokedTokenValidator;
+import br.com.todolist.security.TimedJwtDecoder;
+import br.com.todolist.security.TimedJwtEncoder;
+import br.com.todolist.security.TokenDenyList;
 
 @Configuration
 @EnableWebSecurity
@@ -41,7 +50,9 @@ public class SecurityConfig {
     public SecurityFilterChain filterChain(HttpSecurity http,
             CustomJwtAuthenticationConverter customJwtAuthenticationConverter) throws Exception {
         http.csrf(csrf -> csrf.disable())
-                .authorizeHttpRequests(auth -> auth.requestMatchers("/api/auth/**").permitAll()
+                .authorizeHttpRequests(auth -> auth.requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
+                        .requestMatchers("/api/auth/logout").authenticated()
+                        .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/users/register").permitAll().anyRequest().authenticated())
                 .oauth2ResourceServer(
                         conf -> conf.jwt(jwt -> jwt.jwtAuthenticationConverter(customJwtAuthenticationConverter)))
@@ -55,14 +66,17 @@ public class SecurityConfig {
     }
     
     @Bean
-    JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(this.key).build();
+    JwtDecoder jwtDecoder(TokenDenyList tokenDenyList, MeterRegistry meterRegistry) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withPublicKey(this.key).build();
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefault(), new RevokedTokenValidator(tokenDenyList)));
+        return new TimedJwtDecoder(decoder, meterRegistry);
     }
     
     @Bean
-    JwtEncoder jwtEncoder() {
+    JwtEncoder jwtEncoder(MeterRegistry meterRegistry) {
         var jwk = new RSAKey.Builder(this.key).privateKey(this.priv).build();
         var jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+        return new TimedJwtEncoder(new NimbusJwtEncoder(jwks), meterRegistry);
     }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package br.com.todolist.config;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.todolist.timing.ServerTiming;
+import br.com.todolist.timing.ServerTiming.Metric;
+
+/**
+ * Substitui o conversor JSON do Spring MVC por uma versão que soma ao ServerTiming o tempo de serialização
+ * das respostas, mantendo o mesmo ObjectMapper.
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+public class ServerTimingConfig implements WebMvcConfigurer {
+    
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                ? new TimedJackson2HttpMessageConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+                : converter);
+    }
+    
+    private static class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+        
+        TimedJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+        
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            long start = ServerTiming.start();
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                ServerTiming.stop(Metric.JSON, start);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.todolist.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.todolist.cache.SingleFlight;
+import br.com.todolist.cache.TaskJsonCache;
+
+/**
+ * Declara os agrupamentos de cargas simultâneas das leituras de Tasks.
+ * 
+ * <p>Somente a carga por ID é agrupada, pois a sua chave inclui a versão da Task: quem aguarda recebe
+ * exatamente a versão que consultou. As buscas não têm uma versão barata que identifique o seu resultado,
+ * portanto não são agrupadas.</p>
+ * 
+ * <p>Por implementarem MeterBinder, os contadores de cada SingleFlight são publicados como métricas
+ * 'singleflight.calls' e 'singleflight.in.flight', identificadas pela tag 'name'.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+public class SingleFlightConfig {
+    
+    @Bean
+    public SingleFlight<List<Object>, TaskJsonCache.Entry> taskByIdFlight() {
+        return new SingleFlight<>("task-by-id");
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.todolist.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Declara o pool de threads compartilhado pelas importações de Tasks.
+ * 
+ * <p>O pool possui uma quantidade fixa de threads e uma fila limitada, utilizadas tanto na validação dos
+ * blocos quanto na sua gravação. Com a fila cheia, a tarefa é executada pela própria thread da requisição,
+ * o que reduz o ritmo de leitura das importações ao invés de criar threads ou rejeitar blocos.</p>
+ * 
+ * <p>O bean não é candidato padrão à injeção, de forma que o executor de tarefas da aplicação, utilizado
+ * pelas respostas assíncronas do Spring MVC, continua sendo configurado pelo Spring Boot. Ele é obtido pelo
+ * seu nome.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+public class TaskImportConfig {
+    
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor taskImportExecutor(
+            @Value("${tasks.import.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${tasks.import.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("task-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
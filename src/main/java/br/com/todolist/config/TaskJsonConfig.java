@@ -0,0 +1,68 @@
+package br.com.todolist.config;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import br.com.todolist.cache.TaskJsonCache;
+
+/**
+ * Registra o conversor que escreve as entradas do TaskJsonCache diretamente na resposta.
+ * 
+ * <p>O conversor precede o conversor JSON do Jackson, de forma que uma Entry retornada pelo controlador é
+ * escrita a partir da memória direta, com o 'Content-Length' conhecido, sem serialização e sem cópia do JSON
+ * para um array do heap.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+public class TaskJsonConfig implements WebMvcConfigurer {
+    
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new TaskJsonHttpMessageConverter());
+    }
+    
+    private static class TaskJsonHttpMessageConverter extends AbstractHttpMessageConverter<TaskJsonCache.Entry> {
+        
+        TaskJsonHttpMessageConverter() {
+            super(MediaType.APPLICATION_JSON);
+        }
+        
+        @Override
+        protected boolean supports(Class<?> clazz) {
+            return TaskJsonCache.Entry.class.isAssignableFrom(clazz);
+        }
+        
+        @Override
+        public boolean canRead(Class<?> clazz, MediaType mediaType) {
+            return false;
+        }
+        
+        @Override
+        protected TaskJsonCache.Entry readInternal(Class<? extends TaskJsonCache.Entry> clazz, HttpInputMessage inputMessage)
+                throws IOException, HttpMessageNotReadableException {
+            throw new HttpMessageNotReadableException("TaskJsonCache entries are write-only.", inputMessage);
+        }
+        
+        @Override
+        protected Long getContentLength(TaskJsonCache.Entry entry, MediaType contentType) {
+            return (long) entry.getSize();
+        }
+        
+        @Override
+        protected void writeInternal(TaskJsonCache.Entry entry, HttpOutputMessage outputMessage) throws IOException {
+            entry.writeTo(outputMessage.getBody());
+        }
+    }
+}
@@ -1,21 +1,27 @@
 package br.com.todolist.controller;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.todolist.dto.authentication.AuthenticationDTO;
+import br.com.todolist.security.TokenDenyList;
 import br.com.todolist.service.AuthenticationService;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthenticationController {
     private final AuthenticationService authenticationService;
+    private final TokenDenyList tokenDenyList;
 
-    public AuthenticationController(AuthenticationService authenticationService) {
+    public AuthenticationController(AuthenticationService authenticationService, TokenDenyList tokenDenyList) {
         this.authenticationService = authenticationService;
+        this.tokenDenyList = tokenDenyList;
     }
 
     @PostMapping("authenticate")
@@ -24,4 +30,11 @@ public class AuthenticationController {
                 request.getUsername(), request.getPassword());
         return authenticationService.authenticate(authentication);
     }
+    
+    @PostMapping("logout")
+    public ResponseEntity<Void> logout(Authentication authentication) {
+        Jwt jwt = (Jwt) authentication.getDetails();
+        tokenDenyList.revoke(jwt.getId(), jwt.getExpiresAt());
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
@@ -1,7 +1,13 @@
 package br.com.todolist.controller;
 
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,16 +16,32 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import br.com.todolist.cache.TaskJsonCache;
+import br.com.todolist.dto.batch.BatchTaskResponseDTO;
+import br.com.todolist.dto.batch.ImportSummaryDTO;
+import br.com.todolist.dto.batch.TaskLookupResponseDTO;
 import br.com.todolist.dto.model.TaskPatchDTO;
 import br.com.todolist.dto.model.TaskRequestDTO;
 import br.com.todolist.dto.model.TaskResponseDTO;
+import br.com.todolist.dto.pagination.CountMode;
+import br.com.todolist.dto.pagination.CursorPaginationResponseDTO;
 import br.com.todolist.dto.pagination.PaginationResponseDTO;
+import br.com.todolist.dto.projection.TaskField;
+import br.com.todolist.dto.projection.TaskSummaryView;
+import br.com.todolist.dto.projection.ViewMode;
 import br.com.todolist.exception.ErrorResponse;
 import br.com.todolist.exception.MultiCauseResponse;
+import br.com.todolist.service.TaskExportService;
+import br.com.todolist.service.TaskFileFormat;
+import br.com.todolist.service.TaskImportService;
 import br.com.todolist.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -46,42 +68,220 @@ import jakarta.validation.Valid;
 public class TaskController {
 	
 	private final TaskService taskService;
+	private final TaskExportService taskExportService;
+	private final TaskImportService taskImportService;
 	
-	public TaskController(TaskService taskService) {
+	public TaskController(TaskService taskService, TaskExportService taskExportService, TaskImportService taskImportService) {
 		this.taskService = taskService;
+		this.taskExportService = taskExportService;
+		this.taskImportService = taskImportService;
 	}
 	
 	/**
 	 * Retorna todas as Tasks registradas com suporte à paginação.
 	 * 
+	 * <p>O ETag da listagem é calculado por uma agregação sobre a tabela inteira (quantidade, soma das versões e
+	 * maior ID). Por isso ele só é gerado quando a requisição é condicional ('If-None-Match') ou quando o total
+	 * exato já exige percorrer a tabela. Nas listagens sem contagem ou com contagem aproximada, a resposta é
+	 * enviada sem ETag.</p>
+	 * 
 	 * @param Recebe um pageable, objeto que contém informações de paginação e ordenação.
-	 * @return Retorna um ResponseEntity contendo um DTO com a lista de tarefas paginadas.
+	 * @param Recebe a forma de contagem do total de Tasks: true (padrão), false ou approximate.
+	 * @param Recebe a projeção das Tasks: full (padrão) ou summary, que omite a descrição.
+	 * @param Recebe a requisição, utilizada para avaliar o cabeçalho 'If-None-Match'.
+	 * @return Retorna um ResponseEntity contendo um DTO com a lista de tarefas paginadas, ou 304 caso
+	 * nenhuma Task tenha sido alterada desde o ETag informado.
 	 */
 	@GetMapping
 	@Operation(summary = "Buscar todas as Tasks", description  = "Realiza a busca de todas as Task com a exibição paginada.")
-	@ApiResponse(responseCode = "200", description = "Retorna as Tasks.")
-	public ResponseEntity<PaginationResponseDTO> getAllTasks(@Parameter(description = "Parâmetros de paginação (page, size, sort).") Pageable pageable){
-		PaginationResponseDTO tasksReponseDTO = taskService.getAllTasks(pageable);
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Retorna as Tasks."),
+		@ApiResponse(responseCode = "304", description = "As Tasks não foram alteradas desde o ETag informado.")}
+	)
+	public ResponseEntity<PaginationResponseDTO<? extends TaskSummaryView>> getAllTasks(@Parameter(description = "Parâmetros de paginação (page, size, sort).") Pageable pageable,
+			@RequestParam(required = false) @Parameter(description = "Contagem do total de Tasks (true, false, approximate)") String count,
+			@RequestParam(required = false) @Parameter(description = "Projeção das Tasks (full, summary)") String view,
+			WebRequest webRequest){
+		CountMode countMode = CountMode.from(count);
+		ViewMode viewMode = ViewMode.from(view);
+		
+		if(countMode != CountMode.EXACT && webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+			return ResponseEntity.ok(taskService.getAllTasks(pageable, countMode, viewMode));
+		}
+		
+		String eTag = TaskETag.of(taskService.getCollectionVersion());
+		if(webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+		
+		PaginationResponseDTO<? extends TaskSummaryView> tasksReponseDTO = taskService.getAllTasks(pageable, countMode, viewMode);
+		return ResponseEntity.ok().eTag(eTag).body(tasksReponseDTO);
+	}
+	
+	/**
+	 * Retorna todas as Tasks registradas com suporte à paginação, contendo somente os campos solicitados.
+	 * 
+	 * <p>Selecionada quando o parâmetro 'fields' é informado. Somente as colunas solicitadas são lidas do banco.</p>
+	 * 
+	 * @param Recebe um pageable, objeto que contém informações de paginação e ordenação.
+	 * @param Recebe a forma de contagem do total de Tasks: true (padrão), false ou approximate.
+	 * @param Recebe os campos solicitados, separados por vírgula.
+	 * @return Retorna um ResponseEntity contendo um DTO com a lista de tarefas paginadas.
+	 * @throws Retorna a exceção ValidationException caso algum campo seja desconhecido.
+	 */
+	@GetMapping(params = {"fields", "!ids"})
+	@Operation(summary = "Buscar todas as Tasks com campos selecionados", description  = "Realiza a busca de todas as Task com a exibição paginada, retornando somente os campos informados.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Retorna as Tasks."),
+		@ApiResponse(responseCode = "400", description = "Campo desconhecido.",
+				content = @Content(schema = @Schema(implementation = ErrorResponse.class)))}
+	)
+	public ResponseEntity<PaginationResponseDTO<Map<String, Object>>> getAllTaskFields(@Parameter(description = "Parâmetros de paginação (page, size, sort).") Pageable pageable,
+			@RequestParam(required = false) @Parameter(description = "Contagem do total de Tasks (true, false, approximate)") String count,
+			@RequestParam @Parameter(description = "Campos retornados, separados por vírgula (id, titulo, descricao, prioridade, dataLimite, concluida, categoria, criadaEm)") String fields){
+		PaginationResponseDTO<Map<String, Object>> tasksReponseDTO = taskService.getAllTaskFields(pageable, CountMode.from(count), TaskField.parse(fields));
 		return ResponseEntity.ok(tasksReponseDTO);
 	}
 	
+	/**
+	 * Retorna várias Tasks com base nos IDs fornecidos.
+	 * 
+	 * <p>Todas as Tasks são buscadas em uma única consulta. A resposta segue a ordem dos IDs enviados e
+	 * informa os IDs inexistentes, sem falhar a requisição.</p>
+	 * 
+	 * @param Recebe os IDs das Tasks, separados por vírgula ou repetindo o parâmetro.
+	 * @return Retorna um ResponseEntity contendo as Tasks encontradas e os IDs inexistentes.
+	 * @throws Retorna a exceção ValidationException caso a lista esteja vazia ou exceda o tamanho máximo.
+	 */
+	@GetMapping(params = "ids")
+	@Operation(summary = "Buscar Tasks pelos IDs.", description  = "Realiza a busca de várias Tasks com base nos IDs informados, indicando os IDs inexistentes.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Retorna as Tasks encontradas."),
+		@ApiResponse(responseCode = "400", description = "Lista de IDs vazia, inválida ou maior que o tamanho máximo permitido.",
+				content = @Content(schema = @Schema(implementation = ErrorResponse.class)))}
+	)
+	public ResponseEntity<TaskLookupResponseDTO> getTasksByIds(@RequestParam @Parameter(description = "IDs das Tasks, separados por vírgula") List<Long> ids){
+		TaskLookupResponseDTO taskLookupResponseDTO = taskService.getTasksByIds(ids);
+		return ResponseEntity.ok(taskLookupResponseDTO);
+	}
+	
+	/**
+	 * Retorna as Tasks registradas utilizando paginação por cursor.
+	 * 
+	 * <p>O custo de cada página é o mesmo independentemente da sua profundidade, pois a consulta parte
+	 * da última Task retornada ao invés de descartar as anteriores com 'OFFSET'.</p>
+	 * 
+	 * @param Recebe o cursor opaco da página anterior, ausente na primeira página.
+	 * @param Recebe um pageable, do qual são utilizados somente o tamanho e a ordenação.
+	 * @param Recebe um boolean indicando se o total de Tasks deve ser calculado.
+	 * @return Retorna um ResponseEntity contendo um DTO com as Tasks e o cursor da próxima página.
+	 * @throws Retorna ValidationException caso o cursor ou a ordenação sejam inválidos.
+	 */
+	@GetMapping("/cursor")
+	@Operation(summary = "Buscar todas as Tasks por cursor", description  = "Realiza a busca de todas as Tasks com paginação por cursor (keyset).")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Retorna as Tasks."),
+		@ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos.",
+				content = @Content(schema = @Schema(implementation = ErrorResponse.class)))}
+	)
+	public ResponseEntity<CursorPaginationResponseDTO> getAllTasksByCursor(
+			@RequestParam(required = false) @Parameter(description = "Cursor da página anterior") String after,
+			@Parameter(description = "Parâmetros de paginação (size, sort). Ordenações suportadas: id, criadaEm, dataLimite, titulo.") Pageable pageable,
+			@RequestParam(defaultValue = "false") @Parameter(description = "Calcular o total de Tasks") boolean count){
+		CursorPaginationResponseDTO tasksResponseDTO = taskService.getAllTasksByCursor(after, pageable, count);
+		return ResponseEntity.ok(tasksResponseDTO);
+	}
+	
+	/**
+	 * Exporta todas as Tasks em fluxo contínuo, nos formatos NDJSON ou CSV.
+	 * 
+	 * <p>As Tasks são escritas na resposta à medida que são lidas do banco de dados, sem paginação e sem
+	 * acumular a lista em memória. A resposta é comprimida com gzip quando o cliente envia
+	 * 'Accept-Encoding: gzip'.</p>
+	 * 
+	 * @param Recebe o formato de exportação: ndjson (padrão) ou csv.
+	 * @return Retorna um ResponseEntity com o corpo escrito em fluxo contínuo.
+	 * @throws Retorna a exceção ValidationException caso o formato não seja suportado.
+	 */
+	@GetMapping("/export")
+	@Operation(summary = "Exportar todas as Tasks.", description  = "Exporta todas as Tasks em fluxo contínuo, nos formatos NDJSON ou CSV.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Retorna as Tasks no formato solicitado."),
+		@ApiResponse(responseCode = "400", description = "Formato de exportação inválido.",
+				content = @Content(schema = @Schema(implementation = ErrorResponse.class)))}
+	)
+	public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") @Parameter(description = "Formato de exportação (ndjson, csv)") String format){
+		TaskFileFormat exportFormat = TaskFileFormat.from(format);
+		StreamingResponseBody body = outputStream -> taskExportService.export(exportFormat, outputStream);
+		
+		return ResponseEntity.ok()
+				.contentType(exportFormat.getMediaType())
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=tasks." + exportFormat.getExtension())
+				.body(body);
+	}
+	
 	/**
 	 * Retorna uma Task com base no ID fornecido..
 	 * 
+	 * <p>A versão atual da Task é avaliada primeiro: caso o seu ETag seja igual ao informado em 'If-None-Match',
+	 * a resposta 304 é enviada sem carregar nem serializar a Task.</p>
+	 * 
+	 * <p>Caso contrário, o corpo é o JSON já serializado mantido pelo TaskJsonCache, escrito na resposta a partir
+	 * da memória direta, sem mapeamento nem serialização. A entrada fica retida até o fim da requisição, para que
+	 * o seu bloco não seja reutilizado durante a escrita; caso ela tenha sido removida e liberada nesse intervalo,
+	 * o JSON é obtido novamente. O ETag corresponde à versão desse JSON.</p>
+	 * 
 	 * @param Recebe o ID no formato Long.
-	 * @return ResponseEntity contendo um DTO com a Task.
+	 * @param Recebe a requisição, utilizada para avaliar o cabeçalho 'If-None-Match'.
+	 * @return ResponseEntity contendo o JSON da Task, ou 304 caso ela não tenha sido alterada.
 	 * @throws Retorna a exceção ResourceNotFoundException caso não encontre a Task.
 	 */
 	@GetMapping("/{id}")
 	@Operation(summary = "Buscar Task pelo ID.", description  = "Realiza a busca de uma Task com base no ID informado pelo cliente.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Retorna a Task.",
+				content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskResponseDTO.class))),
+		@ApiResponse(responseCode = "304", description = "A Task não foi alterada desde o ETag informado."),
+		@ApiResponse(responseCode = "404", description = "Task não encontrada.",
+				content = @Content(schema = @Schema(implementation = ErrorResponse.class)))}
+	)
+	public ResponseEntity<TaskJsonCache.Entry> getTaskById(@PathVariable @Parameter(description = "ID da Task") Long id, WebRequest webRequest){
+		long versao = taskService.getTaskJsonVersion(id);
+		if(webRequest.checkNotModified(TaskETag.of(versao))) {
+			return null;
+		}
+		
+		TaskJsonCache.Entry task = taskService.getTaskJson(id, versao);
+		while(!task.retain()) {
+			task = taskService.getTaskJson(id, versao);
+		}
+		webRequest.registerDestructionCallback(TaskJsonCache.Entry.class.getName(), task::release, RequestAttributes.SCOPE_REQUEST);
+		
+		return ResponseEntity.ok().eTag(TaskETag.of(task.getVersao())).contentType(MediaType.APPLICATION_JSON).body(task);
+	}
+	
+	/**
+	 * Retorna uma Task com base no ID fornecido, contendo somente os campos solicitados.
+	 * 
+	 * @param Recebe o ID no formato Long.
+	 * @param Recebe os campos solicitados, separados por vírgula.
+	 * @return ResponseEntity contendo os campos da Task.
+	 * @throws Retorna a exceção ResourceNotFoundException caso não encontre a Task.
+	 * @throws Retorna a exceção ValidationException caso algum campo seja desconhecido.
+	 */
+	@GetMapping(value = "/{id}", params = "fields")
+	@Operation(summary = "Buscar Task pelo ID com campos selecionados.", description  = "Realiza a busca de uma Task com base no ID informado, retornando somente os campos informados.")
 	@ApiResponses(value = {
 		@ApiResponse(responseCode = "200", description = "Retorna a Task."),
+		@ApiResponse(responseCode = "400", description = "Campo desconhecido.",
+				content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
 		@ApiResponse(responseCode = "404", description = "Task não encontrada.",
 				content = @Content(schema = @Schema(implementation = ErrorResponse.class)))}
 	)
-	public ResponseEntity<TaskResponseDTO> getTaskById(@PathVariable @Parameter(description = "ID da Task") Long id){
-		TaskResponseDTO taskResponseDTO = taskService.getTaskById(id);
-		return ResponseEntity.ok(taskResponseDTO);
+	public ResponseEntity<Map<String, Object>> getTaskFieldsById(@PathVariable @Parameter(description = "ID da Task") Long id,
+			@RequestParam @Parameter(description = "Campos retornados, separados por vírgula (id, titulo, descricao, prioridade, dataLimite, concluida, categoria, criadaEm)") String fields){
+		Map<String, Object> task = taskService.getTaskFieldsById(id, TaskField.parse(fields));
+		return ResponseEntity.ok(task);
 	}
 	
 	/**
@@ -89,13 +289,41 @@ public class TaskController {
 	 * 
 	 * @param Recebe um pageable, objeto que contém informações de paginação e ordenação.
 	 * @param Recebe a Categoria no formato String.
+	 * @param Recebe a forma de contagem do total de Tasks: true (padrão), false ou approximate.
+	 * @param Recebe a projeção das Tasks: full (padrão) ou summary, que omite a descrição.
 	 * @return Retorna um ResponseEntity contendo um DTO com as Tasks paginadas.
 	 */
 	@GetMapping("/search")
 	@Operation(summary = "Buscar Task pela categoria.", description  = "Realiza a busca de todas as Tasks com a categoria informada, exibindo o resultado de forma paginada.")
 	@ApiResponse(responseCode = "200", description = "Retorna as Tasks.")
-	public ResponseEntity<PaginationResponseDTO> getAllTasksByCategoria(Pageable pageable, @RequestParam String categoria){
-		PaginationResponseDTO tasksResponseDTO = taskService.getAllTasksByCategoria(pageable, categoria);
+	public ResponseEntity<PaginationResponseDTO<? extends TaskSummaryView>> getAllTasksByCategoria(Pageable pageable, @RequestParam String categoria,
+			@RequestParam(required = false) @Parameter(description = "Contagem do total de Tasks (true, false, approximate)") String count,
+			@RequestParam(required = false) @Parameter(description = "Projeção das Tasks (full, summary)") String view){
+		PaginationResponseDTO<? extends TaskSummaryView> tasksResponseDTO = taskService.getAllTasksByCategoria(pageable, categoria, CountMode.from(count), ViewMode.from(view));
+		return ResponseEntity.ok(tasksResponseDTO);
+	}
+	
+	/**
+	 * Retorna todas as Tasks que correspondem a categoria pesquisada, contendo somente os campos solicitados.
+	 * 
+	 * @param Recebe um pageable, objeto que contém informações de paginação e ordenação.
+	 * @param Recebe a Categoria no formato String.
+	 * @param Recebe a forma de contagem do total de Tasks: true (padrão), false ou approximate.
+	 * @param Recebe os campos solicitados, separados por vírgula.
+	 * @return Retorna um ResponseEntity contendo um DTO com as Tasks paginadas.
+	 * @throws Retorna a exceção ValidationException caso algum campo seja desconhecido.
+	 */
+	@GetMapping(value = "/search", params = "fields")
+	@Operation(summary = "Buscar Task pela categoria com campos selecionados.", description  = "Realiza a busca de todas as Tasks com a categoria informada, retornando somente os campos informados.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Retorna as Tasks."),
+		@ApiResponse(responseCode = "400", description = "Campo desconhecido.",
+				content = @Content(schema = @Schema(implementation = ErrorResponse.class)))}
+	)
+	public ResponseEntity<PaginationResponseDTO<Map<String, Object>>> getAllTaskFieldsByCategoria(Pageable pageable, @RequestParam String categoria,
+			@RequestParam(required = false) @Parameter(description = "Contagem do total de Tasks (true, false, approximate)") String count,
+			@RequestParam @Parameter(description = "Campos retornados, separados por vírgula (id, titulo, descricao, prioridade, dataLimite, concluida, categoria, criadaEm)") String fields){
+		PaginationResponseDTO<Map<String, Object>> tasksResponseDTO = taskService.getAllTaskFieldsByCategoria(pageable, categoria, CountMode.from(count), TaskField.parse(fields));
 		return ResponseEntity.ok(tasksResponseDTO);
 	}
 	
@@ -118,6 +346,51 @@ public class TaskController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(taskResponseDTO);
 	}
 	
+	/**
+	 * Cadastra várias Tasks em uma única requisição.
+	 * 
+	 * <p>Os itens são validados individualmente. Os itens válidos são cadastrados em uma única transação,
+	 * enquanto os inválidos são devolvidos com seus erros de validação, sem impedir o cadastro dos demais.</p>
+	 * 
+	 * @param Recebe uma lista de TaskRequestDTO com os dados das Tasks.
+	 * @return Retorna um ResponseEntity contendo um DTO com o resultado de cada item.
+	 * @throws Retorna a exceção ValidationException caso a lista esteja vazia ou exceda o tamanho máximo.
+	 */
+	@PostMapping("/batch")
+	@Operation(summary = "Cadastrar Tasks em lote.", description  = "Realiza o cadastro de várias Tasks, informando o resultado de cada item.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Retorna o resultado de cada item."),
+		@ApiResponse(responseCode = "400", description = "Lista vazia ou maior que o tamanho máximo permitido.",
+				content = @Content(schema = @Schema(implementation = ErrorResponse.class)))}
+	)
+	public ResponseEntity<BatchTaskResponseDTO> createTasks(@RequestBody @Parameter(description = "Lista com as informações das Tasks") List<TaskRequestDTO> taskRequestDTOs){
+		BatchTaskResponseDTO batchTaskResponseDTO = taskService.createTasks(taskRequestDTOs);
+		return ResponseEntity.ok(batchTaskResponseDTO);
+	}
+	
+	/**
+	 * Importa Tasks a partir de um arquivo NDJSON ou CSV enviado no corpo da requisição.
+	 * 
+	 * <p>O arquivo é processado em fluxo contínuo, sem ser carregado inteiro em memória. Linhas inválidas são
+	 * ignoradas e informadas no resumo, sem impedir a importação das demais.</p>
+	 * 
+	 * @param Recebe o Content-Type da requisição: application/x-ndjson ou text/csv.
+	 * @param Recebe o fluxo de entrada com o conteúdo do arquivo.
+	 * @return Retorna um ResponseEntity contendo o resumo da importação.
+	 * @throws Retorna a exceção ValidationException caso o cabeçalho do CSV não possua as colunas obrigatórias.
+	 */
+	@PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+	@Operation(summary = "Importar Tasks.", description  = "Importa Tasks a partir de um arquivo NDJSON ou CSV, informando as linhas rejeitadas.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Retorna o resumo da importação."),
+		@ApiResponse(responseCode = "400", description = "Cabeçalho do CSV inválido.",
+				content = @Content(schema = @Schema(implementation = ErrorResponse.class)))}
+	)
+	public ResponseEntity<ImportSummaryDTO> importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body){
+		ImportSummaryDTO importSummaryDTO = taskImportService.importTasks(TaskFileFormat.from(contentType), body);
+		return ResponseEntity.ok(importSummaryDTO);
+	}
+	
 	/**
 	 * Atualiza o status da Task.
 	 * 
@@ -146,9 +419,11 @@ public class TaskController {
 	 * 
 	 * @param Recebe o ID da Task no formato Long.
 	 * @param Recebe um TaskRequestDTO com os dados a serem atualizados.
-	 * @return Retorna um ResponseEntity contendo um DTO com a Task atualizada.
+	 * @param Recebe o cabeçalho 'If-Match' com o ETag da Task lida pelo cliente (opcional).
+	 * @return Retorna um ResponseEntity contendo um DTO com a Task atualizada e o seu novo ETag.
 	 * @throws Retorna a exceção MethodArgumentNotValidException caso os dados do RequestDTO sejam inválidos.
 	 * @throws Retorna a exceção ResourceNotFoundException caso a Task não seja encontrada.
+	 * @throws Retorna a exceção PreconditionFailedException caso o 'If-Match' não corresponda à versão atual.
 	 */
 	@PutMapping("/{id}")
 	@Operation(summary = "Atualizar completamente uma Task.", description  = "Realiza a atualização completa de uma Task")
@@ -157,11 +432,16 @@ public class TaskController {
 		@ApiResponse(responseCode = "400", description = "Erro de validação dos atributos a serem atualizados.", 
 				 content = @Content(schema = @Schema(implementation = MultiCauseResponse.class))),
 		@ApiResponse(responseCode = "404", description = "Task não encontrada para atualização.",
+				content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "409", description = "Task concluída, ou alterada por outra requisição durante a atualização sem 'If-Match'.",
+				content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "412", description = "A Task foi alterada desde o ETag informado em 'If-Match'.",
 				content = @Content(schema = @Schema(implementation = ErrorResponse.class)))}
 	)
-	public ResponseEntity<TaskResponseDTO> putTask(@PathVariable @Parameter(description = "ID da Task") Long id, @RequestBody @Parameter(description = "Informações para a atualização da Task") @Valid TaskRequestDTO taskRequestDTO){
-		TaskResponseDTO taskResponseDTO = taskService.putTask(id, taskRequestDTO);
-		return ResponseEntity.ok(taskResponseDTO);
+	public ResponseEntity<TaskResponseDTO> putTask(@PathVariable @Parameter(description = "ID da Task") Long id, @RequestBody @Parameter(description = "Informações para a atualização da Task") @Valid TaskRequestDTO taskRequestDTO,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag da Task lida pelo cliente") String ifMatch){
+		TaskResponseDTO taskResponseDTO = taskService.putTask(id, taskRequestDTO, TaskETag.parseIfMatch(ifMatch));
+		return ResponseEntity.ok().eTag(TaskETag.of(taskResponseDTO.getVersao())).body(taskResponseDTO);
 	}
 	
 	/**
@@ -172,9 +452,11 @@ public class TaskController {
 	 * 
 	 * @param Recebe o ID da Task no formato Long.
 	 * @param Recebe um TaskRequestDTO com os dados a serem atualizados.
-	 * @return Retorna um ResponseEntity contendo um DTO com a Task atualizada.
+	 * @param Recebe o cabeçalho 'If-Match' com o ETag da Task lida pelo cliente (opcional).
+	 * @return Retorna um ResponseEntity contendo um DTO com a Task atualizada e o seu novo ETag.
 	 * @throws Retorna a exceção MethodArgumentNotValidException caso os dados do RequestDTO sejam inválidos.
 	 * @throws Retorna a exceção ResourceNotFoundException caso a Task não seja encontrada.
+	 * @throws Retorna a exceção PreconditionFailedException caso o 'If-Match' não corresponda à versão atual.
 	 */
 	@PatchMapping("/{id}")
 	@Operation(summary = "Atualizar parcialmente uma Task.", description  = "Realiza a atualização parcial de uma Task")
@@ -183,11 +465,14 @@ public class TaskController {
 		@ApiResponse(responseCode = "400", description = "Erro de validação dos atributos a serem atualizados.",
 				content = @Content(schema = @Schema(implementation = MultiCauseResponse.class))),
 		@ApiResponse(responseCode = "404", description = "Task não encontrada para atualização.",
+				content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "412", description = "A Task foi alterada desde o ETag informado em 'If-Match'.",
 				content = @Content(schema = @Schema(implementation = ErrorResponse.class)))}
 	)
-	public ResponseEntity<TaskResponseDTO> patchTask(@PathVariable @Parameter(description = "ID da Task") Long id, @RequestBody @Parameter(description = "Informações para a atualização da Task") @Valid TaskPatchDTO taskPatchDTO){
-		TaskResponseDTO taskResponseDTO = taskService.patchTask(id, taskPatchDTO);
-		return ResponseEntity.ok(taskResponseDTO);
+	public ResponseEntity<TaskResponseDTO> patchTask(@PathVariable @Parameter(description = "ID da Task") Long id, @RequestBody @Parameter(description = "Informações para a atualização da Task") @Valid TaskPatchDTO taskPatchDTO,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag da Task lida pelo cliente") String ifMatch){
+		TaskResponseDTO taskResponseDTO = taskService.patchTask(id, taskPatchDTO, TaskETag.parseIfMatch(ifMatch));
+		return ResponseEntity.ok().eTag(TaskETag.of(taskResponseDTO.getVersao())).body(taskResponseDTO);
 	}
 	
 	/**
@@ -0,0 +1,53 @@
+package br.com.todolist.controller;
+
+import br.com.todolist.dto.projection.TaskCollectionVersion;
+import br.com.todolist.exception.customException.PreconditionFailedException;
+
+/**
+ * Classe utilitária responsável por gerar os ETags das respostas de Tasks.
+ * 
+ * <p>O ETag de uma Task é forte e corresponde à sua versão. O ETag das listagens é fraco, pois é
+ * derivado do estado da tabela inteira e não dos bytes de cada página.</p>
+ * 
+ * <p>Como o 'If-Match' exige comparação forte, somente o ETag de uma Task é aceito nesse cabeçalho.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+final class TaskETag {
+	
+	private TaskETag() {
+	}
+	
+	static String of(long versao) {
+		return "\"" + versao + "\"";
+	}
+	
+	/**
+	 * Extrai a versão do cabeçalho 'If-Match'.
+	 * 
+	 * @param Recebe o valor do cabeçalho, podendo ser nulo.
+	 * @return Retorna a versão esperada, ou nulo caso o cabeçalho esteja ausente ou seja '*'.
+	 * @throws Retorna PreconditionFailedException caso o valor não seja um ETag forte de Task.
+	 */
+	static Long parseIfMatch(String ifMatch) {
+		if(ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+			return null;
+		}
+		
+		String value = ifMatch.trim();
+		if(value.length() > 2 && value.startsWith("\"") && value.endsWith("\"")) {
+			try {
+				return Long.parseLong(value.substring(1, value.length() - 1));
+			} catch (NumberFormatException exception) {
+				// Tratado abaixo.
+			}
+		}
+		throw new PreconditionFailedException("The If-Match header does not match the current version of the task.");
+	}
+	
+	static String of(TaskCollectionVersion version) {
+		return "W/\"" + version.getTotal() + "-" + version.getVersaoSum() + "-" + version.getMaxId() + "\"";
+	}
+}
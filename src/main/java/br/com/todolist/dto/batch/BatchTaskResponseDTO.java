@@ -0,0 +1,63 @@
+package br.com.todolist.dto.batch;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO de resposta da criação de Tasks em lote.
+ * 
+ * <p>Informa a quantidade de itens criados e rejeitados, além do resultado individual de cada
+ * item na mesma ordem em que foram enviados.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@JsonPropertyOrder({ "created", "rejected", "results" })
+public class BatchTaskResponseDTO {
+	
+    @Schema(description = "Quantidade de Tasks criadas", example = "2")
+	private Integer created;
+    
+    @Schema(description = "Quantidade de itens rejeitados", example = "1")
+	private Integer rejected;
+    
+    @Schema(description = "Resultado de cada item, na ordem enviada")
+	private List<BatchTaskResultDTO> results;
+	
+	public BatchTaskResponseDTO() {
+	}
+	
+	public BatchTaskResponseDTO(List<BatchTaskResultDTO> results) {
+		this.results = results;
+		this.created = (int) results.stream().filter(result -> result.getStatus() == BatchTaskResultDTO.Status.CREATED).count();
+		this.rejected = results.size() - created;
+	}
+
+	public Integer getCreated() {
+		return created;
+	}
+
+	public void setCreated(Integer created) {
+		this.created = created;
+	}
+
+	public Integer getRejected() {
+		return rejected;
+	}
+
+	public void setRejected(Integer rejected) {
+		this.rejected = rejected;
+	}
+
+	public List<BatchTaskResultDTO> getResults() {
+		return results;
+	}
+
+	public void setResults(List<BatchTaskResultDTO> results) {
+		this.results = results;
+	}
+}
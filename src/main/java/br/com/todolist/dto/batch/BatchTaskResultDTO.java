@@ -0,0 +1,91 @@
+package br.com.todolist.dto.batch;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import br.com.todolist.dto.model.TaskResponseDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO que representa o resultado do cadastro de um item da criação em lote.
+ * 
+ * <p>Quando o item é válido, contém a Task criada. Caso contrário, contém os erros de validação
+ * de cada campo, no mesmo formato utilizado pelo 'MultiCauseResponse'.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({ "index", "status", "task", "fieldErrors" })
+public class BatchTaskResultDTO {
+	
+	public enum Status {
+		CREATED,
+		REJECTED
+	}
+	
+    @Schema(description = "Posição do item na lista enviada", example = "0")
+	private Integer index;
+    
+    @Schema(description = "Resultado do item (CREATED, REJECTED)", example = "CREATED")
+	private Status status;
+    
+    @Schema(description = "Task criada, presente somente quando o item foi cadastrado")
+	private TaskResponseDTO task;
+    
+    @Schema(description = "Erros de validação por campo, presentes somente quando o item foi rejeitado")
+	private Map<String, String> fieldErrors;
+	
+	public BatchTaskResultDTO() {
+	}
+	
+	public BatchTaskResultDTO(Integer index, Status status, TaskResponseDTO task, Map<String, String> fieldErrors) {
+		this.index = index;
+		this.status = status;
+		this.task = task;
+		this.fieldErrors = fieldErrors;
+	}
+	
+	public static BatchTaskResultDTO created(int index, TaskResponseDTO task) {
+		return new BatchTaskResultDTO(index, Status.CREATED, task, null);
+	}
+	
+	public static BatchTaskResultDTO rejected(int index, Map<String, String> fieldErrors) {
+		return new BatchTaskResultDTO(index, Status.REJECTED, null, fieldErrors);
+	}
+
+	public Integer getIndex() {
+		return index;
+	}
+
+	public void setIndex(Integer index) {
+		this.index = index;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public void setStatus(Status status) {
+		this.status = status;
+	}
+
+	public TaskResponseDTO getTask() {
+		return task;
+	}
+
+	public void setTask(TaskResponseDTO task) {
+		this.task = task;
+	}
+
+	public Map<String, String> getFieldErrors() {
+		return fieldErrors;
+	}
+
+	public void setFieldErrors(Map<String, String> fieldErrors) {
+		this.fieldErrors = fieldErrors;
+	}
+}
@@ -0,0 +1,88 @@
+package br.com.todolist.dto.batch;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO de resposta da importação de Tasks.
+ * 
+ * <p>Informa a quantidade de linhas processadas, importadas e rejeitadas, além do detalhamento das
+ * linhas rejeitadas. Para limitar o tamanho da resposta, somente as primeiras linhas rejeitadas são
+ * detalhadas; 'rejectedLinesTruncated' indica quando existem mais linhas rejeitadas que as listadas.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@JsonPropertyOrder({ "totalLines", "imported", "rejected", "rejectedLinesTruncated", "rejectedLines" })
+public class ImportSummaryDTO {
+	
+    @Schema(description = "Quantidade de linhas de dados processadas", example = "1000")
+	private Long totalLines;
+    
+    @Schema(description = "Quantidade de Tasks importadas", example = "998")
+	private Long imported;
+    
+    @Schema(description = "Quantidade de linhas rejeitadas", example = "2")
+	private Long rejected;
+    
+    @Schema(description = "Indica se a lista de linhas rejeitadas foi truncada", example = "false")
+	private Boolean rejectedLinesTruncated;
+    
+    @Schema(description = "Detalhamento das linhas rejeitadas")
+	private List<RejectedLineDTO> rejectedLines;
+	
+	public ImportSummaryDTO() {
+	}
+	
+	public ImportSummaryDTO(Long totalLines, Long imported, Long rejected, Boolean rejectedLinesTruncated, List<RejectedLineDTO> rejectedLines) {
+		this.totalLines = totalLines;
+		this.imported = imported;
+		this.rejected = rejected;
+		this.rejectedLinesTruncated = rejectedLinesTruncated;
+		this.rejectedLines = rejectedLines;
+	}
+
+	public Long getTotalLines() {
+		return totalLines;
+	}
+
+	public void setTotalLines(Long totalLines) {
+		this.totalLines = totalLines;
+	}
+
+	public Long getImported() {
+		return imported;
+	}
+
+	public void setImported(Long imported) {
+		this.imported = imported;
+	}
+
+	public Long getRejected() {
+		return rejected;
+	}
+
+	public void setRejected(Long rejected) {
+		this.rejected = rejected;
+	}
+
+	public Boolean getRejectedLinesTruncated() {
+		return rejectedLinesTruncated;
+	}
+
+	public void setRejectedLinesTruncated(Boolean rejectedLinesTruncated) {
+		this.rejectedLinesTruncated = rejectedLinesTruncated;
+	}
+
+	public List<RejectedLineDTO> getRejectedLines() {
+		return rejectedLines;
+	}
+
+	public void setRejectedLines(List<RejectedLineDTO> rejectedLines) {
+		this.rejectedLines = rejectedLines;
+	}
+}
@@ -0,0 +1,48 @@
+package br.com.todolist.dto.batch;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO que representa uma linha rejeitada na importação de Tasks.
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@JsonPropertyOrder({ "line", "fieldErrors" })
+public class RejectedLineDTO {
+	
+    @Schema(description = "Número da linha no arquivo enviado, iniciando em 1", example = "3")
+	private Long line;
+    
+    @Schema(description = "Erros encontrados na linha. A chave representa o campo com erro, ou 'line' para erros de formato.")
+	private Map<String, String> fieldErrors;
+	
+	public RejectedLineDTO() {
+	}
+	
+	public RejectedLineDTO(Long line, Map<String, String> fieldErrors) {
+		this.line = line;
+		this.fieldErrors = fieldErrors;
+	}
+
+	public Long getLine() {
+		return line;
+	}
+
+	public void setLine(Long line) {
+		this.line = line;
+	}
+
+	public Map<String, String> getFieldErrors() {
+		return fieldErrors;
+	}
+
+	public void setFieldErrors(Map<String, String> fieldErrors) {
+		this.fieldErrors = fieldErrors;
+	}
+}
@@ -0,0 +1,52 @@
+package br.com.todolist.dto.batch;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import br.com.todolist.dto.model.TaskResponseDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO de resposta da busca de várias Tasks pelos seus IDs.
+ * 
+ * <p>As Tasks encontradas seguem a ordem dos IDs enviados. Os IDs que não correspondem a nenhuma Task
+ * são informados separadamente, sem impedir o retorno das demais.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@JsonPropertyOrder({ "tasks", "missingIds" })
+public class TaskLookupResponseDTO {
+	
+    @Schema(description = "Tasks encontradas, na ordem dos IDs enviados")
+	private List<TaskResponseDTO> tasks;
+    
+    @Schema(description = "IDs que não correspondem a nenhuma Task", example = "[7, 12]")
+	private List<Long> missingIds;
+	
+	public TaskLookupResponseDTO() {
+	}
+	
+	public TaskLookupResponseDTO(List<TaskResponseDTO> tasks, List<Long> missingIds) {
+		this.tasks = tasks;
+		this.missingIds = missingIds;
+	}
+
+	public List<TaskResponseDTO> getTasks() {
+		return tasks;
+	}
+
+	public void setTasks(List<TaskResponseDTO> tasks) {
+		this.tasks = tasks;
+	}
+
+	public List<Long> getMissingIds() {
+		return missingIds;
+	}
+
+	public void setMissingIds(List<Long> missingIds) {
+		this.missingIds = missingIds;
+	}
+}
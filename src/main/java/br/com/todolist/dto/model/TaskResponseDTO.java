@@ -3,6 +3,8 @@ package br.com.todolist.dto.model;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import br.com.todolist.model.enumeration.Prioridade;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -15,6 +17,8 @@ import lombok.NoArgsConstructor;
  * <p>Essa classe é utilizada para retornar ao cliente os dados de uma Task somente,
  * seja após sua criação, atualização ou consulta.</p>
  * 
+ * <p>A versão da Task não faz parte do corpo da resposta: ela é enviada no cabeçalho 'ETag'.</p>
+ * 
  * @author Pedro Lauton
  * @version 1.0
  * @since 20/04/2025
@@ -47,6 +51,9 @@ public class TaskResponseDTO {
     
     @Schema(description = "Data e horário de criação da Task", example = "2025-04-21T22:29:28")
 	private LocalDateTime criadaEm;
+    
+    @JsonIgnore
+	private Long versao;
 	
 	public TaskResponseDTO() {
 	}
@@ -126,4 +133,12 @@ public class TaskResponseDTO {
 	public void setCriadaEm(LocalDateTime criadaEm) {
 		this.criadaEm = criadaEm;
 	}
+	
+	public Long getVersao() {
+		return versao;
+	}
+	
+	public void setVersao(Long versao) {
+		this.versao = versao;
+	}
 }
@@ -0,0 +1,42 @@
+package br.com.todolist.dto.pagination;
+
+import br.com.todolist.exception.customException.ValidationException;
+
+/**
+ * Enum que representa a forma como o total de elementos é calculado nas respostas paginadas.
+ * 
+ * <ul>
+ * 	<li>EXACT: executa um 'SELECT count(*)' a cada requisição (comportamento padrão).</li>
+ * 	<li>NONE: não calcula o total, informando somente se existe uma próxima página.</li>
+ * 	<li>APPROXIMATE: utiliza um contador mantido em cache, atualizado periodicamente.</li>
+ * </ul>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum CountMode {
+	EXACT,
+	NONE,
+	APPROXIMATE;
+	
+	/**
+	 * Converte o valor do parâmetro 'count' da requisição.
+	 * 
+	 * @param Recebe o valor informado: true, false ou approximate.
+	 * @return Retorna o CountMode correspondente, EXACT caso o valor seja nulo.
+	 * @throws Retorna ValidationException caso o valor não seja reconhecido.
+	 */
+	public static CountMode from(String value) {
+		if(value == null || value.isBlank()) {
+			return EXACT;
+		}
+		
+		return switch (value.trim().toLowerCase()) {
+			case "true", "exact" -> EXACT;
+			case "false", "none" -> NONE;
+			case "approximate" -> APPROXIMATE;
+			default -> throw new ValidationException("Invalid value for 'count'. Use one of: true, false, approximate.");
+		};
+	}
+}
@@ -0,0 +1,94 @@
+package br.com.todolist.dto.pagination;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import br.com.todolist.model.Task;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO responsável por encapsular a resposta paginada por cursor (keyset) de tarefas.
+ * 
+ * <p>Ao invés do número da página, o cliente recebe um cursor opaco ('nextCursor') que deve ser
+ * enviado no parâmetro 'after' para buscar a próxima página. O custo de cada página independe da
+ * sua profundidade.</p>
+ * 
+ * <p>O total de elementos só é calculado quando solicitado pelo cliente e, caso contrário, é omitido
+ * do JSON de resposta.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({ "tasks", "size", "hasNext", "nextCursor", "totalElements" })
+public class CursorPaginationResponseDTO {
+	
+    @Schema(description = "Lista com as Tasks")
+	private List<Task> tasks;
+    
+    @Schema(description = "Quantidade de Tasks exibidas na página", example = "5")
+	private Integer size;
+    
+    @Schema(description = "Indica se existe uma próxima página", example = "true")
+	private Boolean hasNext;
+    
+    @Schema(description = "Cursor a ser enviado no parâmetro 'after' para buscar a próxima página", example = "aWR8QVNDfDV8NQ")
+	private String nextCursor;
+    
+    @Schema(description = "Quantidade total de Tasks, informada somente quando 'count=true'", example = "5")
+	private Long totalElements;
+	
+	public CursorPaginationResponseDTO() {
+	}
+	
+	public CursorPaginationResponseDTO(List<Task> tasks, Integer size, Boolean hasNext, String nextCursor, Long totalElements) {
+		this.tasks = tasks;
+		this.size = size;
+		this.hasNext = hasNext;
+		this.nextCursor = nextCursor;
+		this.totalElements = totalElements;
+	}
+
+	public List<Task> getTasks() {
+		return tasks;
+	}
+
+	public void setTasks(List<Task> tasks) {
+		this.tasks = tasks;
+	}
+
+	public Integer getSize() {
+		return size;
+	}
+
+	public void setSize(Integer size) {
+		this.size = size;
+	}
+
+	public Boolean getHasNext() {
+		return hasNext;
+	}
+
+	public void setHasNext(Boolean hasNext) {
+		this.hasNext = hasNext;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+	public Long getTotalElements() {
+		return totalElements;
+	}
+
+	public void setTotalElements(Long totalElements) {
+		this.totalElements = totalElements;
+	}
+}
@@ -3,10 +3,11 @@ package br.com.todolist.dto.pagination;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
-import br.com.todolist.model.Task;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,12 +16,17 @@ import lombok.NoArgsConstructor;
 /**
  * DTO responsável por encapsular a resposta paginada de tarefas.
  * 
+ * <p>O tipo dos itens é a projeção escolhida na listagem (TaskView ou TaskSummaryView).</p>
+ * 
  * <p>Utilizado para retornar uma lista de Tasks de forma paginada ao cliente,
  * contendo também informações de controle como número da página, tamanho da página,
  * total de páginas e total de elementos.</p>
  * 
  * <p>A ordenação dos campos no JSON de resposta segue a seguinte ordem: 
- * tasks, page, size, totalPages, totalElements.</p>
+ * tasks, page, size, hasNext, totalPages, totalElements.</p>
+ * 
+ * <p>Quando a contagem não é solicitada ('count=false'), os campos totalPages e totalElements são
+ * omitidos. Com 'count=approximate', eles são preenchidos a partir de um contador em cache.</p>
  * 
  * @author Pedro Lauton
  * @version 1.0
@@ -29,11 +35,12 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@JsonPropertyOrder({ "tasks", "page", "size", "totalPages", "totalElements" })
-public class PaginationResponseDTO {
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({ "tasks", "page", "size", "hasNext", "totalPages", "totalElements" })
+public class PaginationResponseDTO<T> {
 	
     @Schema(description = "Lista com as Tasks")
-	private List<Task> tasks;
+	private List<T> tasks;
     
     @Schema(description = "Página atual", example = "0")
 	private Integer page;
@@ -41,6 +48,9 @@ public class PaginationResponseDTO {
     @Schema(description = "Quantidade de Tasks exibidas na página", example = "5")
 	private Integer size;
     
+    @Schema(description = "Indica se existe uma próxima página", example = "true")
+	private Boolean hasNext;
+    
     @Schema(description = "Quantidade total de páginas retornadas", example = "3")
 	private Integer totalPages;
     
@@ -50,7 +60,7 @@ public class PaginationResponseDTO {
 	public PaginationResponseDTO() {
 	}
 	
-	public PaginationResponseDTO(List<Task> tasks, Integer page, Integer size, Integer totalPages, Long totalElements) {
+	public PaginationResponseDTO(List<T> tasks, Integer page, Integer size, Integer totalPages, Long totalElements) {
 		this.tasks = tasks;
 		this.page = page;
 		this.size = size;
@@ -58,19 +68,33 @@ public class PaginationResponseDTO {
 		this.totalElements = totalElements;
 	}
 
-	public PaginationResponseDTO(Page<Task> page) {
+	public PaginationResponseDTO(Page<T> page) {
 		this.tasks = page.getContent();
 		this.page = page.getNumber();
 		this.size = page.getSize();
+		this.hasNext = page.hasNext();
 		this.totalPages = page.getTotalPages();
 		this.totalElements = page.getTotalElements();
 	}
+	
+	public PaginationResponseDTO(Slice<T> slice) {
+		this.tasks = slice.getContent();
+		this.page = slice.getNumber();
+		this.size = slice.getSize();
+		this.hasNext = slice.hasNext();
+	}
+	
+	public PaginationResponseDTO(Slice<T> slice, long approximateTotalElements) {
+		this(slice);
+		this.totalElements = approximateTotalElements;
+		this.totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) approximateTotalElements / slice.getSize());
+	}
 
-	public List<Task> getTasks() {
+	public List<T> getTasks() {
 		return tasks;
 	}
 
-	public void setTasks(List<Task> tasks) {
+	public void setTasks(List<T> tasks) {
 		this.tasks = tasks;
 	}
 
@@ -90,6 +114,14 @@ public class PaginationResponseDTO {
 		this.size = size;
 	}
 
+	public Boolean getHasNext() {
+		return hasNext;
+	}
+
+	public void setHasNext(Boolean hasNext) {
+		this.hasNext = hasNext;
+	}
+
 	public Integer getTotalPages() {
 		return totalPages;
 	}
@@ -0,0 +1,21 @@
+package br.com.todolist.dto.projection;
+
+/**
+ * Projeção que resume o estado da tabela de Tasks, utilizada para gerar o ETag das listagens.
+ * 
+ * <p>O maior valor de versão não basta: alterar uma Task antiga não muda o máximo. Por isso são
+ * combinados a quantidade de Tasks, a soma das versões (que muda a cada alteração) e o maior ID
+ * (que muda a cada inclusão).</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface TaskCollectionVersion {
+	
+	Long getTotal();
+	
+	Long getVersaoSum();
+	
+	Long getMaxId();
+}
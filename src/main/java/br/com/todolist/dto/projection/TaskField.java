@@ -0,0 +1,72 @@
+package br.com.todolist.dto.projection;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import br.com.todolist.exception.customException.ValidationException;
+
+/**
+ * Enum que representa os campos de uma Task que podem ser solicitados pelo parâmetro 'fields'.
+ * 
+ * <p>Cada constante corresponde a um atributo da entidade Task. Somente as colunas dos campos
+ * solicitados são selecionadas no banco e devolvidas na resposta.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum TaskField {
+	ID("id"),
+	TITULO("titulo"),
+	DESCRICAO("descricao"),
+	PRIORIDADE("prioridade"),
+	DATA_LIMITE("dataLimite"),
+	CONCLUIDA("concluida"),
+	CATEGORIA("categoria"),
+	CRIADA_EM("criadaEm");
+	
+	private final String attribute;
+	
+	TaskField(String attribute) {
+		this.attribute = attribute;
+	}
+	
+	public String getAttribute() {
+		return attribute;
+	}
+	
+	/**
+	 * Converte o valor do parâmetro 'fields' da requisição.
+	 * 
+	 * <p>Os campos são separados por vírgula e comparados ao nome do atributo da Task. Campos repetidos
+	 * são ignorados e a resposta segue sempre a ordem declarada neste enum.</p>
+	 * 
+	 * @param Recebe o valor informado, por exemplo: id,titulo,dataLimite,concluida.
+	 * @return Retorna o conjunto de campos solicitados.
+	 * @throws Retorna ValidationException caso o valor esteja vazio ou contenha um campo desconhecido.
+	 */
+	public static Set<TaskField> parse(String value) {
+		Set<TaskField> fields = EnumSet.noneOf(TaskField.class);
+		if(value != null) {
+			for(String name : value.split(",")) {
+				if(!name.isBlank()) {
+					fields.add(fromAttribute(name.trim()));
+				}
+			}
+		}
+		
+		if(fields.isEmpty()) {
+			throw new ValidationException("The parameter 'fields' must contain at least one field.");
+		}
+		return fields;
+	}
+	
+	private static TaskField fromAttribute(String name) {
+		for(TaskField field : values()) {
+			if(field.attribute.equals(name)) {
+				return field;
+			}
+		}
+		throw new ValidationException("Unknown field '" + name + "'. Use any of: id, titulo, descricao, prioridade, dataLimite, concluida, categoria, criadaEm.");
+	}
+}
@@ -0,0 +1,37 @@
+package br.com.todolist.dto.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import br.com.todolist.model.enumeration.Prioridade;
+
+/**
+ * Projeção resumida de uma Task, utilizada nas listagens com 'view=summary'.
+ * 
+ * <p>Não possui a descrição, que costuma ser o campo mais extenso da Task. Por ser uma projeção fechada,
+ * o Spring Data seleciona somente as colunas declaradas aqui, sem carregar a entidade no contexto de
+ * persistência.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@JsonPropertyOrder({ "id", "titulo", "descricao", "prioridade", "dataLimite", "concluida", "categoria", "criadaEm" })
+public interface TaskSummaryView {
+	
+	Long getId();
+	
+	String getTitulo();
+	
+	Prioridade getPrioridade();
+	
+	LocalDate getDataLimite();
+	
+	Boolean getConcluida();
+	
+	String getCategoria();
+	
+	LocalDateTime getCriadaEm();
+}
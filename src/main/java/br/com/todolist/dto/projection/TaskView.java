@@ -0,0 +1,16 @@
+package br.com.todolist.dto.projection;
+
+/**
+ * Projeção completa de uma Task, utilizada nas listagens por padrão.
+ * 
+ * <p>Possui os mesmos campos do TaskResponseDTO e é preenchida diretamente pela consulta, sem
+ * instanciar a entidade Task.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface TaskView extends TaskSummaryView {
+	
+	String getDescricao();
+}
@@ -0,0 +1,49 @@
+package br.com.todolist.dto.projection;
+
+import br.com.todolist.exception.customException.ValidationException;
+
+/**
+ * Enum que representa a projeção utilizada nas listagens de Tasks.
+ * 
+ * <ul>
+ * 	<li>FULL: retorna todos os campos da Task (comportamento padrão).</li>
+ * 	<li>SUMMARY: retorna a Task sem a descrição.</li>
+ * </ul>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum ViewMode {
+	FULL(TaskView.class),
+	SUMMARY(TaskSummaryView.class);
+	
+	private final Class<? extends TaskSummaryView> type;
+	
+	ViewMode(Class<? extends TaskSummaryView> type) {
+		this.type = type;
+	}
+	
+	public Class<? extends TaskSummaryView> getType() {
+		return type;
+	}
+	
+	/**
+	 * Converte o valor do parâmetro 'view' da requisição.
+	 * 
+	 * @param Recebe o valor informado: full ou summary.
+	 * @return Retorna o ViewMode correspondente, FULL caso o valor seja nulo.
+	 * @throws Retorna ValidationException caso o valor não seja reconhecido.
+	 */
+	public static ViewMode from(String value) {
+		if(value == null || value.isBlank()) {
+			return FULL;
+		}
+		
+		return switch (value.trim().toLowerCase()) {
+			case "full" -> FULL;
+			case "summary" -> SUMMARY;
+			default -> throw new ValidationException("Invalid value for 'view'. Use one of: full, summary.");
+		};
+	}
+}
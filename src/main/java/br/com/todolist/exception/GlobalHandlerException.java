@@ -3,6 +3,8 @@ package br.com.todolist.exception;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -11,9 +13,15 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import br.com.todolist.exception.customException.InvalidTaskStateException;
+import br.com.todolist.exception.customException.PreconditionFailedException;
 import br.com.todolist.exception.customException.ResourceNotFoundException;
+import br.com.todolist.exception.customException.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolationException;
 
 /**
@@ -33,6 +41,28 @@ import jakarta.validation.ConstraintViolationException;
  */
 @RestControllerAdvice
 public class GlobalHandlerException {
+	
+	private final Counter resourceNotFound;
+	private final Counter invalidTaskState;
+	
+	public GlobalHandlerException(MeterRegistry meterRegistry) {
+		this.resourceNotFound = exceptionCounter(meterRegistry, ResourceNotFoundException.class);
+		this.invalidTaskState = exceptionCounter(meterRegistry, InvalidTaskStateException.class);
+	}
+	
+	/**
+	 * Cria o contador 'todolist.exceptions' da exceção informada.
+	 * 
+	 * @param Recebe o MeterRegistry da aplicação.
+	 * @param Recebe a classe da exceção, utilizada na tag 'exception'.
+	 * @return Retorna o Counter registrado.
+	 */
+	private static Counter exceptionCounter(MeterRegistry meterRegistry, Class<? extends Exception> exception) {
+		return Counter.builder("todolist.exceptions")
+				.description("Exceções tratadas pelo GlobalHandlerException")
+				.tag("exception", exception.getSimpleName())
+				.register(meterRegistry);
+	}
 
 	/**
 	 * Trata erros de desserialização JSON (ex: tipo inválido, formato incorreto).
@@ -84,6 +114,7 @@ public class GlobalHandlerException {
 	@ExceptionHandler(InvalidTaskStateException.class)
 	@ResponseStatus(HttpStatus.CONFLICT)
 	public ResponseEntity<ErrorResponse> handleInvalidTaskStateException(InvalidTaskStateException exception){
+		invalidTaskState.increment();
 		ErrorResponse error = new ErrorResponse(
 				HttpStatus.CONFLICT.value(),
 				"Invalid Task State",
@@ -101,6 +132,7 @@ public class GlobalHandlerException {
 	@ExceptionHandler(ResourceNotFoundException.class)
 	@ResponseStatus(HttpStatus.NOT_FOUND)
 	public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException exception){
+		resourceNotFound.increment();
 		ErrorResponse error = new ErrorResponse(
 				HttpStatus.NOT_FOUND.value(),
 				"Resource Not Found",
@@ -109,6 +141,79 @@ public class GlobalHandlerException {
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
 	}
 	
+	/**
+	 * Trata exceção personalizada para parâmetros de requisição inválidos.
+	 * 
+	 * @param Exception exceção capturada.
+	 * @return Retorna ResponseEntity<ErrorResponse> com status 400 (Bad Request).
+	 */
+	@ExceptionHandler(ValidationException.class)
+	@ResponseStatus(HttpStatus.BAD_REQUEST)
+	public ResponseEntity<ErrorResponse> handleValidationException(ValidationException exception){
+		ErrorResponse error = new ErrorResponse(
+				HttpStatus.BAD_REQUEST.value(),
+				"Invalid Request Parameter",
+				exception.getMessage());
+		
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+	}
+	
+	/**
+	 * Trata parâmetros de requisição que não podem ser convertidos para o tipo esperado (ex: 'ids=1,a').
+	 * 
+	 * @param Exception exceção capturada.
+	 * @return Retorna ResponseEntity<ErrorResponse> com status 400 (Bad Request).
+	 */
+	@ExceptionHandler(MethodArgumentTypeMismatchException.class)
+	@ResponseStatus(HttpStatus.BAD_REQUEST)
+	public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException exception){
+		ErrorResponse error = new ErrorResponse(
+				HttpStatus.BAD_REQUEST.value(),
+				"Invalid Request Parameter",
+				"Invalid value for '" + exception.getName() + "'.");
+		
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+	}
+	
+	/**
+	 * Trata versões divergentes do cabeçalho 'If-Match'.
+	 * 
+	 * @param Exception exceção capturada.
+	 * @return Retorna ResponseEntity<ErrorResponse> com status 412 (Precondition Failed).
+	 */
+	@ExceptionHandler(PreconditionFailedException.class)
+	@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+	public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException exception){
+		ErrorResponse error = new ErrorResponse(
+				HttpStatus.PRECONDITION_FAILED.value(),
+				"Precondition Failed",
+				exception.getMessage());
+		
+		return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+	}
+	
+	/**
+	 * Trata conflitos de bloqueio otimista, quando a Task é alterada por outra requisição entre a
+	 * leitura e a gravação.
+	 * 
+	 * <p>Somente quando o cliente informou 'If-Match' o conflito é uma pré-condição que falhou (412). Sem
+	 * o cabeçalho, trata-se de uma disputa entre duas escritas, respondida como conflito (409).</p>
+	 * 
+	 * @param Exception exceção capturada.
+	 * @param Recebe a requisição, utilizada para verificar o cabeçalho 'If-Match'.
+	 * @return Retorna ResponseEntity<ErrorResponse> com status 412 (Precondition Failed) ou 409 (Conflict).
+	 */
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception, WebRequest webRequest){
+		HttpStatus status = webRequest.getHeader(HttpHeaders.IF_MATCH) != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+		ErrorResponse error = new ErrorResponse(
+				status.value(),
+				status.getReasonPhrase(),
+				"The task was modified by another request. Reload it and try again.");
+		
+		return ResponseEntity.status(status).body(error);
+	}
+	
 	/**
 	 * Trata erros de validação de argumentos anotados com {@code @Valid} em DTOs.
 	 * 
@@ -0,0 +1,21 @@
+package br.com.todolist.exception.customException;
+
+/**
+ * Exceção personalizada lançada quando a versão informada no cabeçalho 'If-Match' não corresponde
+ * à versão atual da Task.
+ * 
+ * <p>Indica que a Task foi alterada por outra requisição depois de ser lida pelo cliente, evitando
+ * que uma alteração sobrescreva a outra silenciosamente.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class PreconditionFailedException extends RuntimeException{
+
+	private static final long serialVersionUID = 1L;
+	
+	public PreconditionFailedException(String message) {
+		super(message);
+	}
+}
@@ -1,5 +1,20 @@
 package br.com.todolist.exception.customException;
 
-public class ValidationException {
+/**
+ * Exceção personalizada lançada quando um parâmetro da requisição é inválido.
+ * 
+ * <p>Utilizada para parâmetros que não passam pela Bean Validation, como cursores de paginação
+ * ou opções de consulta informadas em formato incorreto.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 20/04/2025
+ */
+public class ValidationException extends RuntimeException{
 
+	private static final long serialVersionUID = 1L;
+	
+	public ValidationException(String message) {
+		super(message);
+	}
 }
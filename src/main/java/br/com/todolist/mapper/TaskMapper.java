@@ -0,0 +1,51 @@
+package br.com.todolist.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+
+import br.com.todolist.dto.model.TaskRequestDTO;
+import br.com.todolist.dto.model.TaskResponseDTO;
+import br.com.todolist.model.Task;
+
+/**
+ * Mapper responsável pela conversão entre a entidade Task e seus DTOs.
+ * 
+ * <p>A implementação é gerada pelo MapStruct em tempo de compilação, realizando chamadas diretas
+ * aos getters e setters, sem reflexão nem consulta a mapas de tipos durante a requisição.</p>
+ * 
+ * <p>Os atributos que não existem na origem (como 'id' e 'criadaEm' na conversão a partir do
+ * TaskRequestDTO) não são alterados no destino.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface TaskMapper {
+	
+	/**
+	 * Cria uma nova Task a partir dos dados da requisição.
+	 * 
+	 * @param Recebe um TaskRequestDTO com os dados da Task.
+	 * @return Retorna a Task ainda não persistida.
+	 */
+	Task toEntity(TaskRequestDTO taskRequestDTO);
+	
+	/**
+	 * Converte a Task em seu DTO de resposta.
+	 * 
+	 * @param Recebe a Task a ser convertida.
+	 * @return Retorna um TaskResponseDTO com os dados da Task.
+	 */
+	TaskResponseDTO toResponseDTO(Task task);
+	
+	/**
+	 * Copia os dados da requisição para a Task informada, substituindo todos os atributos presentes no DTO.
+	 * 
+	 * @param Recebe um TaskRequestDTO com os dados a serem atualizados.
+	 * @param Recebe a Task que será atualizada.
+	 */
+	void updateEntity(TaskRequestDTO taskRequestDTO, @MappingTarget Task task);
+}
@@ -0,0 +1,70 @@
+package br.com.todolist.model;
+
+import java.time.Instant;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * Entidade que registra os tokens JWT revogados antes de sua expiração.
+ * 
+ * <p>O identificador do token (claim 'jti') é a chave primária. O registro pode ser removido
+ * assim que o token expira, pois a partir desse momento ele já é rejeitado pela validação padrão.</p>
+ * 
+ * <p>Como o ID é atribuído pela aplicação, a entidade implementa Persistable: cada 'jti' é revogado uma única
+ * vez, de forma que o 'save' faz um 'persist' direto, sem o SELECT que o 'merge' realizaria.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Entity
+@Table(name = "revoked_token")
+public class RevokedToken implements Persistable<String> {
+	
+	@Id
+	private String jti;
+	
+	private Instant expiresAt;
+	
+	@Transient
+	private boolean isNew = true;
+	
+	public RevokedToken() {
+	}
+	
+	public RevokedToken(String jti, Instant expiresAt) {
+		this.jti = jti;
+		this.expiresAt = expiresAt;
+	}
+
+	public String getJti() {
+		return jti;
+	}
+
+	public Instant getExpiresAt() {
+		return expiresAt;
+	}
+	
+	@Override
+	public String getId() {
+		return jti;
+	}
+	
+	@Override
+	public boolean isNew() {
+		return isNew;
+	}
+	
+	@PostLoad
+	@PostPersist
+	void markNotNew() {
+		this.isNew = false;
+	}
+}
@@ -3,14 +3,22 @@ package br.com.todolist.model;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import br.com.todolist.model.enumeration.Prioridade;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -31,18 +39,40 @@ import lombok.NoArgsConstructor;
  * <p>O campo criadaEm é automaticamente populado no momento da persistência 
  * da entidade através do método @PrePersist.</p>
  * 
+ * <p>O campo versao é incrementado pelo Hibernate a cada alteração (@Version) e o campo atualizadaEm
+ * registra a data da última alteração, através do método @PreUpdate. Ambos são utilizados para gerar
+ * os ETags das respostas.</p>
+ * 
+ * <p>Com o @DynamicUpdate, o UPDATE gerado pelo Hibernate contém somente as colunas alteradas.</p>
+ * 
+ * <p>A entidade não é armazenada no cache de segundo nível do Hibernate: as escritas via JPQL (conclusão,
+ * exclusão e atualização parcial) invalidariam a região inteira a cada operação. As leituras pelo ID são
+ * atendidas pelo TaskJsonCache, que é invalidado por Task.</p>
+ * 
+ * <p>Os índices compostos pelas chaves de ordenação e pelo ID atendem a paginação por cursor.</p>
+ * 
+ * <p>O ID é gerado por sequência com alocação em blocos, o que permite ao Hibernate agrupar os
+ * INSERTs em lotes JDBC. Em bancos sem suporte a sequências (MySQL), o Hibernate emula a sequência
+ * com a tabela 'task_seq', ajustada na inicialização pelo TaskSequenceInitializer.</p>
+ * 
  * @author Pedro Lauton
  * @version 1.0
  * @since 20/04/2025
  */
 @Entity
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+		@Index(name = "idx_task_criada_em_id", columnList = "criadaEm, id"),
+		@Index(name = "idx_task_data_limite_id", columnList = "dataLimite, id"),
+		@Index(name = "idx_task_titulo_id", columnList = "titulo, id")})
 public class Task {
 	
 	@Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
 	private Long id;
 	
     @NotBlank(message = "O título não pode estar vazio.")
@@ -66,6 +96,12 @@ public class Task {
 	private String categoria;
     
 	private LocalDateTime criadaEm;
+    
+    @Version
+    @Column(nullable = false)
+	private Long versao;
+    
+	private LocalDateTime atualizadaEm;
 
     public Task() {
     }
@@ -136,8 +172,22 @@ public class Task {
 		return criadaEm;
 	}
 	
+	public Long getVersao() {
+		return versao;
+	}
+	
+	public LocalDateTime getAtualizadaEm() {
+		return atualizadaEm;
+	}
+	
 	@PrePersist
 	private void dateTaskCreated() {
 		criadaEm = LocalDateTime.now();
+		atualizadaEm = criadaEm;
+	}
+	
+	@PreUpdate
+	private void dateTaskUpdated() {
+		atualizadaEm = LocalDateTime.now();
 	}
 }
@@ -0,0 +1,62 @@
+package br.com.todolist.model;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * Entidade do índice de n-gramas (trigramas) da categoria das Tasks.
+ * 
+ * <p>Cada registro associa um trigrama da categoria, em letras minúsculas, ao ID da Task. A busca por
+ * parte da categoria resolve primeiro os IDs candidatos por este índice, que utiliza B-tree, ao invés de
+ * varrer toda a tabela 'task' com 'LIKE %x%'.</p>
+ * 
+ * <p>Os registros são mantidos pelo 'CategoriaNgramIndex' a cada escrita realizada no TaskService.</p>
+ * 
+ * <p>Como o ID é atribuído pela aplicação, a entidade implementa Persistable: os registros criados são
+ * sempre novos (o índice da Task é removido antes), de forma que o 'saveAll' faz um 'persist' direto, sem
+ * o SELECT por registro que o 'merge' realizaria.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Entity
+@Table(name = "task_categoria_ngram", indexes = @Index(name = "idx_task_categoria_ngram", columnList = "ngram, taskId"))
+public class TaskCategoriaNgram implements Persistable<TaskCategoriaNgramId> {
+	
+	@EmbeddedId
+	private TaskCategoriaNgramId id;
+	
+	@Transient
+	private boolean isNew = true;
+	
+	public TaskCategoriaNgram() {
+	}
+	
+	public TaskCategoriaNgram(Long taskId, String ngram) {
+		this.id = new TaskCategoriaNgramId(taskId, ngram);
+	}
+
+	@Override
+	public TaskCategoriaNgramId getId() {
+		return id;
+	}
+	
+	@Override
+	public boolean isNew() {
+		return isNew;
+	}
+	
+	@PostLoad
+	@PostPersist
+	void markNotNew() {
+		this.isNew = false;
+	}
+}
@@ -0,0 +1,54 @@
+package br.com.todolist.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import jakarta.persistence.Embeddable;
+
+/**
+ * Chave composta da entidade TaskCategoriaNgram, formada pelo ID da Task e pelo n-grama.
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Embeddable
+public class TaskCategoriaNgramId implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private Long taskId;
+	private String ngram;
+	
+	public TaskCategoriaNgramId() {
+	}
+	
+	public TaskCategoriaNgramId(Long taskId, String ngram) {
+		this.taskId = taskId;
+		this.ngram = ngram;
+	}
+
+	public Long getTaskId() {
+		return taskId;
+	}
+
+	public String getNgram() {
+		return ngram;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(this == obj) {
+			return true;
+		}
+		if(!(obj instanceof TaskCategoriaNgramId other)) {
+			return false;
+		}
+		return Objects.equals(taskId, other.taskId) && Objects.equals(ngram, other.ngram);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(taskId, ngram);
+	}
+}
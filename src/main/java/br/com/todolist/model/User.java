@@ -2,7 +2,14 @@ package br.com.todolist.model;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import br.com.todolist.cache.UserCacheInvalidationListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -16,12 +23,16 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
+@EntityListeners(UserCacheInvalidationListener.class)
 public class User {
 	
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id; 
 	
+	@NaturalId
 	private String username;
 	private String password;
 	private List<Role> roles;
@@ -29,6 +40,12 @@ public class User {
 	public User() {
 	}
 
+	public User(Long id, String username, List<Role> roles) {
+		this.id = id;
+		this.username = username;
+		this.roles = roles;
+	}
+
 	public User(String username, String password, Role role) {
 		this.username = username;
 		this.password = password;
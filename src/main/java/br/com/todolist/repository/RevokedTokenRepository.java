@@ -0,0 +1,22 @@
+package br.com.todolist.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.todolist.model.RevokedToken;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+	
+	@Query("SELECT r.jti FROM RevokedToken r WHERE r.expiresAt > :now")
+	List<String> findActiveJtis(Instant now);
+	
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+	int deleteExpired(Instant now);
+}
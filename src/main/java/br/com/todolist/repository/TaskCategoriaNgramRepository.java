@@ -0,0 +1,19 @@
+package br.com.todolist.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.todolist.model.TaskCategoriaNgram;
+import br.com.todolist.model.TaskCategoriaNgramId;
+
+public interface TaskCategoriaNgramRepository extends JpaRepository<TaskCategoriaNgram, TaskCategoriaNgramId> {
+	
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM TaskCategoriaNgram g WHERE g.id.taskId IN :taskIds")
+	int deleteByTaskIdIn(Collection<Long> taskIds);
+}
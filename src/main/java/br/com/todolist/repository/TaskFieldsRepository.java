@@ -0,0 +1,34 @@
+package br.com.todolist.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import br.com.todolist.dto.projection.TaskField;
+
+/**
+ * Fragmento do TaskRepository responsável pelas consultas com campos esparsos (parâmetro 'fields').
+ * 
+ * <p>As consultas são montadas com a Criteria API, selecionando somente as colunas dos campos
+ * informados. Cada linha é devolvida como um Map, cuja chave é o nome do atributo da Task.</p>
+ * 
+ * <p>O filtro de categoria segue as mesmas regras dos métodos terminados em 'Ngrams' do TaskRepository:
+ * o padrão do 'LIKE' deve estar em letras minúsculas e escapado por '!', e o filtro por trigramas só é
+ * aplicado quando a coleção de trigramas não está vazia.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface TaskFieldsRepository {
+	
+	Slice<Map<String, Object>> findFields(Set<TaskField> fields, Pageable pageable);
+	
+	Slice<Map<String, Object>> findFieldsByCategoria(Set<TaskField> fields, String pattern, Collection<String> ngrams, Pageable pageable);
+	
+	Optional<Map<String, Object>> findFieldsById(Set<TaskField> fields, Long id);
+}
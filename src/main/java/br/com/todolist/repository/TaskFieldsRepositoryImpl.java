@@ -0,0 +1,167 @@
+package br.com.todolist.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import br.com.todolist.dto.projection.TaskField;
+import br.com.todolist.exception.customException.ValidationException;
+import br.com.todolist.model.Task;
+import br.com.todolist.model.TaskCategoriaNgram;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Implementação do fragmento TaskFieldsRepository utilizando a Criteria API.
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+class TaskFieldsRepositoryImpl implements TaskFieldsRepository {
+	
+	private final EntityManager entityManager;
+	
+	TaskFieldsRepositoryImpl(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+	
+	@Override
+	public Slice<Map<String, Object>> findFields(Set<TaskField> fields, Pageable pageable) {
+		return findSlice(fields, List.of(), pageable);
+	}
+	
+	@Override
+	public Slice<Map<String, Object>> findFieldsByCategoria(Set<TaskField> fields, String pattern, Collection<String> ngrams, Pageable pageable) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		return findSlice(fields, List.of((root, query) -> categoriaPredicate(cb, root, query, pattern, ngrams)), pageable);
+	}
+	
+	@Override
+	public Optional<Map<String, Object>> findFieldsById(Set<TaskField> fields, Long id) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Task> root = query.from(Task.class);
+		query.multiselect(selections(fields, root)).where(cb.equal(root.get("id"), id));
+		
+		return entityManager.createQuery(query)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.getResultStream()
+				.findFirst()
+				.map(tuple -> toMap(fields, tuple));
+	}
+	
+	@FunctionalInterface
+	private interface Filter {
+		Predicate apply(Root<Task> root, CriteriaQuery<Tuple> query);
+	}
+	
+	/**
+	 * Executa a consulta buscando um registro além do tamanho da página, para saber se existe uma próxima página
+	 * sem precisar de uma consulta de contagem.
+	 */
+	private Slice<Map<String, Object>> findSlice(Set<TaskField> fields, List<Filter> filters, Pageable pageable) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Task> root = query.from(Task.class);
+		
+		query.multiselect(selections(fields, root));
+		query.where(filters.stream().map(filter -> filter.apply(root, query)).toArray(Predicate[]::new));
+		if(pageable.getSort().isSorted()) {
+			validateSort(pageable.getSort());
+			query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+		}
+		
+		TypedQuery<Tuple> typedQuery = entityManager.createQuery(query)
+				.setHint(HibernateHints.HINT_READ_ONLY, true);
+		if(pageable.isPaged()) {
+			typedQuery.setFirstResult((int) pageable.getOffset());
+			typedQuery.setMaxResults(pageable.getPageSize() + 1);
+		}
+		
+		List<Map<String, Object>> rows = new ArrayList<>();
+		for(Tuple tuple : typedQuery.getResultList()) {
+			rows.add(toMap(fields, tuple));
+		}
+		
+		boolean hasNext = pageable.isPaged() && rows.size() > pageable.getPageSize();
+		if(hasNext) {
+			rows.remove(rows.size() - 1);
+		}
+		return new SliceImpl<>(rows, pageable, hasNext);
+	}
+	
+	/**
+	 * Garante que a ordenação utilize somente os atributos expostos pelo TaskField. Sem essa verificação, um
+	 * atributo desconhecido chegaria ao 'QueryUtils.toOrders' e resultaria em erro 500 ao invés de 400.
+	 */
+	private static void validateSort(Sort sort) {
+		for(Sort.Order order : sort) {
+			boolean known = false;
+			for(TaskField field : TaskField.values()) {
+				known |= field.getAttribute().equals(order.getProperty());
+			}
+			if(!known) {
+				throw new ValidationException("Unknown sort property '" + order.getProperty() + "'. Use any of: id, titulo, descricao, prioridade, dataLimite, concluida, categoria, criadaEm.");
+			}
+		}
+	}
+	
+	/**
+	 * Monta o filtro da categoria: o 'LIKE' sobre a categoria e, quando houver trigramas, a subconsulta que
+	 * restringe os candidatos aos IDs que possuem todos eles.
+	 */
+	private static Predicate categoriaPredicate(CriteriaBuilder cb, Root<Task> root, CriteriaQuery<Tuple> query,
+			String pattern, Collection<String> ngrams) {
+		Predicate like = cb.like(cb.lower(root.<String>get("categoria")), pattern, '!');
+		if(ngrams.isEmpty()) {
+			return like;
+		}
+		
+		Subquery<Long> candidates = query.subquery(Long.class);
+		Root<TaskCategoriaNgram> ngram = candidates.from(TaskCategoriaNgram.class);
+		Path<Long> taskId = ngram.get("id").<Long>get("taskId");
+		Path<String> value = ngram.get("id").<String>get("ngram");
+		candidates.select(taskId)
+				.where(value.in(ngrams))
+				.groupBy(taskId)
+				.having(cb.equal(cb.count(value), (long) ngrams.size()));
+		
+		return cb.and(root.get("id").in(candidates), like);
+	}
+	
+	private static List<Selection<?>> selections(Set<TaskField> fields, Root<Task> root) {
+		List<Selection<?>> selections = new ArrayList<>(fields.size());
+		for(TaskField field : fields) {
+			selections.add(root.get(field.getAttribute()).alias(field.getAttribute()));
+		}
+		return selections;
+	}
+	
+	private static Map<String, Object> toMap(Set<TaskField> fields, Tuple tuple) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		for(TaskField field : fields) {
+			row.put(field.getAttribute(), tuple.get(field.getAttribute()));
+		}
+		return row;
+	}
+}
@@ -0,0 +1,29 @@
+package br.com.todolist.repository;
+
+import java.util.Map;
+
+import br.com.todolist.dto.projection.TaskField;
+
+/**
+ * Fragmento do TaskRepository responsável pela atualização parcial (PATCH) das Tasks.
+ * 
+ * <p>A atualização é feita em uma única instrução, sem carregar a Task: somente as colunas alteradas,
+ * a versão e a data de atualização entram no 'SET'.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface TaskPatchRepository {
+	
+	/**
+	 * Atualiza as colunas informadas somente se a Task não estiver concluída e, quando informada, se a
+	 * versão for a esperada.
+	 * 
+	 * @param Recebe o ID da Task no formato Long.
+	 * @param Recebe os novos valores de cada campo alterado.
+	 * @param Recebe a versão esperada, ou nulo para não verificá-la.
+	 * @return Retorna a quantidade de registros afetados (0 ou 1).
+	 */
+	int patchIfPending(Long id, Map<TaskField, Object> changes, Long expectedVersion);
+}
@@ -0,0 +1,56 @@
+package br.com.todolist.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import br.com.todolist.dto.projection.TaskField;
+import br.com.todolist.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Implementação do fragmento TaskPatchRepository utilizando a Criteria API.
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+class TaskPatchRepositoryImpl implements TaskPatchRepository {
+	
+	private final EntityManager entityManager;
+	
+	TaskPatchRepositoryImpl(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+	
+	@Override
+	public int patchIfPending(Long id, Map<TaskField, Object> changes, Long expectedVersion) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+		Root<Task> root = update.from(Task.class);
+		
+		changes.forEach((field, value) -> update.set(root.get(field.getAttribute()), value));
+		Path<Long> versao = root.get("versao");
+		update.set(versao, cb.sum(versao, 1L));
+		update.set(root.<LocalDateTime>get("atualizadaEm"), LocalDateTime.now());
+		
+		List<Predicate> predicates = new ArrayList<>();
+		predicates.add(cb.equal(root.get("id"), id));
+		predicates.add(cb.isFalse(root.get("concluida")));
+		if(expectedVersion != null) {
+			predicates.add(cb.equal(versao, expectedVersion));
+		}
+		update.where(predicates.toArray(Predicate[]::new));
+		
+		entityManager.flush();
+		int updated = entityManager.createQuery(update).executeUpdate();
+		entityManager.clear();
+		return updated;
+	}
+}
@@ -1,10 +1,24 @@
 package br.com.todolist.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import br.com.todolist.dto.projection.TaskCollectionVersion;
+import br.com.todolist.dto.projection.TaskSummaryView;
+import br.com.todolist.dto.projection.TaskView;
 import br.com.todolist.model.Task;
 
 /**
@@ -15,11 +29,99 @@ import br.com.todolist.model.Task;
  * <p>Define também o método 'findByCategoriaContainingIgnoreCase', que permite buscar Tasks
  * com base em uma parte do nome da categoria, ignorando diferenças entre letras maiúsculas e minúsculas.</p>
  * 
+ * <p>O método 'findAllBy' realiza a paginação por cursor (keyset), filtrando a partir da posição
+ * informada ao invés de utilizar 'OFFSET'.</p>
+ * 
+ * <p>Os métodos que retornam 'Slice' não executam a consulta de contagem, informando somente se existe
+ * uma próxima página.</p>
+ * 
+ * <p>O método 'completeIfPending' conclui a Task em uma única instrução, somente se ela ainda não estiver
+ * concluída, retornando a quantidade de registros afetados. O método 'deleteIfPending' segue a mesma ideia
+ * para a exclusão.</p>
+ * 
+ * <p>Os métodos terminados em 'Ngrams' filtram a categoria pelo índice de trigramas (TaskCategoriaNgram):
+ * somente as Tasks que possuem todos os trigramas do texto pesquisado são candidatas, e o 'LIKE' final
+ * é aplicado apenas sobre elas para confirmar a ordem dos caracteres. O padrão do 'LIKE' deve ser
+ * informado em letras minúsculas e com os caracteres especiais escapados por '!'.</p>
+ * 
+ * <p>Os métodos que recebem um 'Class' ou retornam TaskView/TaskSummaryView utilizam projeções: somente as
+ * colunas da projeção são selecionadas e nenhuma entidade é gerenciada pelo contexto de persistência. As
+ * constantes 'VIEW_SELECT' e 'SUMMARY_SELECT' definem as colunas das consultas escritas manualmente.</p>
+ * 
+ * <p>O método 'findUnindexedAfter' retorna, em ordem de ID, as Tasks que ainda não possuem registros no índice
+ * de trigramas, utilizado para retomar o preenchimento do índice.</p>
+ * 
+ * <p>Os métodos 'findVersaoById' e 'findCollectionVersion' leem somente as informações de versão, utilizadas
+ * nos ETags, sem carregar as Tasks. Como o 'completeIfPending' não passa pelo Hibernate, ele incrementa a
+ * versão manualmente.</p>
+ * 
+ * <p>As consultas com campos esparsos (parâmetro 'fields') são herdadas do fragmento TaskFieldsRepository e a
+ * atualização parcial sem pré-carregamento, do fragmento TaskPatchRepository.</p>
+ * 
+ * <p>O método 'streamAllByOrderById', do fragmento TaskStreamRepository, percorre todas as Tasks por um cursor
+ * JDBC somente leitura e deve ser consumido dentro de uma transação.</p>
+ * 
  * @author Pedro Lauton
  * @version 1.0
  * @since 20/04/2025
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>{
-	Page<Task> findByCategoriaContainingIgnoreCase(Pageable pageable, String Categoria);
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskFieldsRepository, TaskPatchRepository, TaskStreamRepository{
+	
+	String NGRAM_FILTER = "t.id IN (SELECT g.id.taskId FROM TaskCategoriaNgram g WHERE g.id.ngram IN :ngrams "
+			+ "GROUP BY g.id.taskId HAVING COUNT(g.id.ngram) = :ngramCount) "
+			+ "AND LOWER(t.categoria) LIKE :pattern ESCAPE '!'";
+	
+	String SUMMARY_SELECT = "SELECT t.id AS id, t.titulo AS titulo, t.prioridade AS prioridade, t.dataLimite AS dataLimite, "
+			+ "t.concluida AS concluida, t.categoria AS categoria, t.criadaEm AS criadaEm";
+	
+	String VIEW_SELECT = SUMMARY_SELECT + ", t.descricao AS descricao";
+	
+	<T> Page<T> findByCategoriaContainingIgnoreCase(Pageable pageable, String categoria, Class<T> type);
+	
+	<T> Page<T> findPageBy(Pageable pageable, Class<T> type);
+	
+	<T> Slice<T> findSliceBy(Pageable pageable, Class<T> type);
+	
+	<T> Slice<T> findSliceByCategoriaContainingIgnoreCase(Pageable pageable, String categoria, Class<T> type);
+	
+	long countByCategoriaContainingIgnoreCase(String categoria);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Task t SET t.concluida = true, t.versao = t.versao + 1, t.atualizadaEm = LOCAL DATETIME "
+			+ "WHERE t.id = :id AND t.concluida = false")
+	int completeIfPending(Long id);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("DELETE FROM Task t WHERE t.id = :id AND t.concluida = false")
+	int deleteIfPending(Long id);
+	
+	@Query(value = VIEW_SELECT + " FROM Task t WHERE " + NGRAM_FILTER,
+			countQuery = "SELECT COUNT(t) FROM Task t WHERE " + NGRAM_FILTER)
+	Page<TaskView> findViewByCategoriaNgrams(Pageable pageable, String pattern, Collection<String> ngrams, long ngramCount);
+	
+	@Query(value = SUMMARY_SELECT + " FROM Task t WHERE " + NGRAM_FILTER,
+			countQuery = "SELECT COUNT(t) FROM Task t WHERE " + NGRAM_FILTER)
+	Page<TaskSummaryView> findSummaryByCategoriaNgrams(Pageable pageable, String pattern, Collection<String> ngrams, long ngramCount);
+	
+	@Query(VIEW_SELECT + " FROM Task t WHERE " + NGRAM_FILTER)
+	Slice<TaskView> findViewSliceByCategoriaNgrams(Pageable pageable, String pattern, Collection<String> ngrams, long ngramCount);
+	
+	@Query(SUMMARY_SELECT + " FROM Task t WHERE " + NGRAM_FILTER)
+	Slice<TaskSummaryView> findSummarySliceByCategoriaNgrams(Pageable pageable, String pattern, Collection<String> ngrams, long ngramCount);
+	
+	@Query("SELECT COUNT(t) FROM Task t WHERE " + NGRAM_FILTER)
+	long countByCategoriaNgrams(String pattern, Collection<String> ngrams, long ngramCount);
+	
+	@Query("SELECT t FROM Task t WHERE t.id > :afterId AND NOT EXISTS "
+			+ "(SELECT g.id.taskId FROM TaskCategoriaNgram g WHERE g.id.taskId = t.id) ORDER BY t.id")
+	List<Task> findUnindexedAfter(Long afterId, Limit limit);
+	
+	@Query("SELECT t.versao FROM Task t WHERE t.id = :id")
+	Optional<Long> findVersaoById(Long id);
+	
+	@Query("SELECT COUNT(t) AS total, COALESCE(SUM(t.versao), 0) AS versaoSum, COALESCE(MAX(t.id), 0) AS maxId FROM Task t")
+	TaskCollectionVersion findCollectionVersion();
+	
+	Window<Task> findAllBy(ScrollPosition position, Sort sort, Limit limit);
 }
@@ -0,0 +1,70 @@
+package br.com.todolist.repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ajusta a tabela 'task_seq' para que os IDs gerados fiquem acima do maior ID já existente em 'task'.
+ * 
+ * <p>Em bancos sem sequências (MySQL), o Hibernate emula a sequência da Task com a tabela 'task_seq',
+ * criada pelo 'ddl-auto=update' com o valor inicial 1. Em bancos que já possuíam Tasks geradas por
+ * IDENTITY, os novos IDs colidiriam com os existentes. Este componente eleva o 'next_val' para
+ * MAX(id) + tamanho do bloco, valor a partir do qual o otimizador 'pooled' gera IDs maiores que MAX(id).
+ * O UPDATE utiliza GREATEST e, portanto, nunca recua a sequência já utilizada por outra instância.</p>
+ * 
+ * <p>Em bancos com sequências nativas (H2), a tabela não existe e nada é feito.</p>
+ * 
+ * <p>Declara a dependência do 'entityManagerFactory' para executar após a atualização do esquema e antes
+ * do primeiro INSERT.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class TaskSequenceInitializer implements InitializingBean {
+	
+	private static final Logger log = LoggerFactory.getLogger(TaskSequenceInitializer.class);
+	
+	static final String SEQUENCE_TABLE = "task_seq";
+	static final int ALLOCATION_SIZE = 50;
+	
+	private final JdbcTemplate jdbcTemplate;
+	
+	public TaskSequenceInitializer(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+	
+	@Override
+	public void afterPropertiesSet() {
+		if(!sequenceTableExists()) {
+			return;
+		}
+		
+		int updated = jdbcTemplate.update(
+				"UPDATE task_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + ? FROM task))",
+				ALLOCATION_SIZE);
+		log.info("Seeded {} above the highest task id ({} row(s) updated).", SEQUENCE_TABLE, updated);
+	}
+	
+	/**
+	 * Verifica se a sequência é emulada por tabela neste banco.
+	 */
+	private boolean sequenceTableExists() {
+		return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+			DatabaseMetaData metaData = connection.getMetaData();
+			try(ResultSet tables = metaData.getTables(connection.getCatalog(), null, SEQUENCE_TABLE, new String[] { "TABLE" })) {
+				return tables.next();
+			}
+		}));
+	}
+}
@@ -0,0 +1,25 @@
+package br.com.todolist.repository;
+
+import java.util.stream.Stream;
+
+import br.com.todolist.model.Task;
+
+/**
+ * Fragmento do TaskRepository responsável pela leitura de todas as Tasks em fluxo contínuo (exportação).
+ * 
+ * <p>As linhas são lidas por um cursor JDBC somente leitura, sem materializar o resultado na memória. Como
+ * o fluxo depende da conexão, ele deve ser consumido e fechado dentro de uma transação.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface TaskStreamRepository {
+	
+	/**
+	 * Percorre todas as Tasks ordenadas pelo ID.
+	 * 
+	 * @return Retorna o Stream das Tasks, que deve ser fechado após o uso.
+	 */
+	Stream<Task> streamAllByOrderById();
+}
@@ -0,0 +1,47 @@
+package br.com.todolist.repository;
+
+import java.util.stream.Stream;
+
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+
+import br.com.todolist.model.Task;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Implementação do fragmento TaskStreamRepository.
+ * 
+ * <p>O MySQL Connector/J só transmite o resultado linha a linha quando o 'fetch size' é Integer.MIN_VALUE;
+ * com qualquer outro valor, todas as linhas são carregadas na memória, a menos que a URL ative 'useCursorFetch'
+ * para todas as instruções da aplicação. Por isso o valor é definido somente nesta consulta, e somente no
+ * MySQL. Os demais bancos recebem um 'fetch size' comum.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+class TaskStreamRepositoryImpl implements TaskStreamRepository {
+	
+	private static final int FETCH_SIZE = 500;
+	
+	private final EntityManager entityManager;
+	
+	TaskStreamRepositoryImpl(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+	
+	@Override
+	public Stream<Task> streamAllByOrderById() {
+		return entityManager.createQuery("SELECT t FROM Task t ORDER BY t.id", Task.class)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, streamingFetchSize())
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.getResultStream();
+	}
+	
+	private int streamingFetchSize() {
+		boolean mysql = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+				.getJdbcServices().getDialect() instanceof MySQLDialect;
+		return mysql ? Integer.MIN_VALUE : FETCH_SIZE;
+	}
+}
@@ -0,0 +1,21 @@
+package br.com.todolist.repository;
+
+import java.util.Optional;
+
+import br.com.todolist.model.User;
+
+/**
+ * Fragmento do UserRepository responsável pela busca do usuário pelo seu ID natural (username).
+ * 
+ * <p>Substitui a consulta derivada 'findByUsername', permitindo que o Hibernate resolva o username pelo
+ * cache de IDs naturais e, em seguida, carregue o usuário pelo cache de segundo nível, sem acessar o
+ * banco de dados.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface UserNaturalIdRepository {
+	
+	Optional<User> findByUsername(String username);
+}
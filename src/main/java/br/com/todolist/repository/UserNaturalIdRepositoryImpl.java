@@ -0,0 +1,33 @@
+package br.com.todolist.repository;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.todolist.model.User;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Implementação do fragmento UserNaturalIdRepository utilizando a API de IDs naturais do Hibernate.
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+	
+	private final EntityManager entityManager;
+	
+	UserNaturalIdRepositoryImpl(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<User> findByUsername(String username) {
+		return entityManager.unwrap(Session.class)
+				.bySimpleNaturalId(User.class)
+				.loadOptional(username);
+	}
+}
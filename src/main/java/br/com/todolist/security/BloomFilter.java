@@ -0,0 +1,86 @@
+package br.com.todolist.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom simples e seguro para acesso concorrente.
+ * 
+ * <p>Utilizado como estrutura compacta para responder rapidamente se um identificador
+ * certamente não pertence ao conjunto. Respostas positivas podem ser falsos positivos e devem
+ * ser confirmadas na fonte de dados.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+class BloomFilter {
+	
+	private final AtomicLongArray bits;
+	private final int numBits;
+	private final int numHashes;
+	
+	/**
+	 * Cria um filtro dimensionado para a quantidade de elementos e taxa de falsos positivos esperadas.
+	 * 
+	 * @param Recebe a quantidade esperada de elementos.
+	 * @param Recebe a taxa de falsos positivos desejada (ex: 0.01).
+	 */
+	BloomFilter(int expectedInsertions, double falsePositiveRate) {
+		int n = Math.max(expectedInsertions, 1);
+		long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.numBits = (int) Math.min(Math.max(m, 64), Integer.MAX_VALUE - 63);
+		this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+		this.bits = new AtomicLongArray((numBits + 63) >>> 6);
+	}
+	
+	void put(String value) {
+		long hash = hash(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for(int i = 1; i <= numHashes; i++) {
+			int index = ((h1 + i * h2) & Integer.MAX_VALUE) % numBits;
+			setBit(index);
+		}
+	}
+	
+	boolean mightContain(String value) {
+		long hash = hash(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for(int i = 1; i <= numHashes; i++) {
+			int index = ((h1 + i * h2) & Integer.MAX_VALUE) % numBits;
+			if((bits.get(index >>> 6) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private void setBit(int index) {
+		int word = index >>> 6;
+		long mask = 1L << index;
+		long current;
+		do {
+			current = bits.get(word);
+			if((current & mask) != 0) {
+				return;
+			}
+		} while(!bits.compareAndSet(word, current, current | mask));
+	}
+	
+	/**
+	 * Hash FNV-1a de 64 bits seguido de uma etapa de mistura, suficiente para o double hashing.
+	 */
+	private static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for(byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -11,27 +12,57 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import br.com.todolist.cache.UserCache;
+import br.com.todolist.model.Role;
 import br.com.todolist.model.User;
 import br.com.todolist.model.UserAuthenticated;
 import br.com.todolist.repository.UserRepository;
+import br.com.todolist.timing.ServerTiming;
+import br.com.todolist.timing.ServerTiming.Metric;
 
 public class CustomJwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
     
 	@Autowired
 	private UserRepository userRepository;
+	
+	@Autowired
+	private UserCache userCache;
+	
+	@Value("${security.jwt.stateless:true}")
+	private boolean stateless;
     
     
     @Override
     public AbstractAuthenticationToken convert(Jwt jwt) {
-        UserAuthenticated userAuthenticated = extractUser(jwt);
+        long start = ServerTiming.start();
+        UserAuthenticated userAuthenticated;
+        try {
+            userAuthenticated = extractUser(jwt);
+        } finally {
+            ServerTiming.stop(Metric.USER, start);
+        }
         List<GrantedAuthority> authorities = List.copyOf(userAuthenticated.getAuthorities());
-        return new UsernamePasswordAuthenticationToken(userAuthenticated, null, authorities);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userAuthenticated, null, authorities);
+        authentication.setDetails(jwt);
+        return authentication;
     }
     
+    /**
+     * Monta o usuário autenticado a partir dos claims do token quando o modo stateless está ativo
+     * e o token carrega os papéis do usuário. Tokens emitidos antes da inclusão do claim 'roles'
+     * continuam sendo resolvidos pelo cache/banco de dados.
+     */
     private UserAuthenticated extractUser(Jwt jwt) {
         Long userId = jwt.getClaim("userId");
-        User user = userRepository.findById(userId)
+        List<String> roles = jwt.getClaimAsStringList("roles");
+        
+        if(stateless && roles != null) {
+            List<Role> userRoles = roles.stream().map(Role::valueOf).toList();
+            return new UserAuthenticated(new User(userId, jwt.getSubject(), userRoles));
+        }
+        
+        User user = userCache.get(userId, userRepository::findById)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
         return new UserAuthenticated(user);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package br.com.todolist.security;
+
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Validador que rejeita tokens JWT presentes na 'TokenDenyList'.
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class RevokedTokenValidator implements OAuth2TokenValidator<Jwt> {
+	
+	private static final OAuth2Error REVOKED = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "The token has been revoked.", null);
+	
+	private final TokenDenyList tokenDenyList;
+	
+	public RevokedTokenValidator(TokenDenyList tokenDenyList) {
+		this.tokenDenyList = tokenDenyList;
+	}
+
+	@Override
+	public OAuth2TokenValidatorResult validate(Jwt jwt) {
+		if(tokenDenyList.isRevoked(jwt.getId())) {
+			return OAuth2TokenValidatorResult.failure(REVOKED);
+		}
+		return OAuth2TokenValidatorResult.success();
+	}
+}
@@ -0,0 +1,58 @@
+package br.com.todolist.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import br.com.todolist.timing.ServerTiming;
+import br.com.todolist.timing.ServerTiming.Metric;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * JwtDecoder que registra o tempo da decodificação e validação dos tokens.
+ * 
+ * <p>O tempo é publicado no timer 'todolist.jwt.decode', com a tag 'outcome' separando os tokens
+ * aceitos dos rejeitados, e somado à métrica 'jwt' do ServerTiming.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class TimedJwtDecoder implements JwtDecoder {
+	
+	private final JwtDecoder delegate;
+	private final Timer success;
+	private final Timer failure;
+	
+	public TimedJwtDecoder(JwtDecoder delegate, MeterRegistry registry) {
+		this.delegate = delegate;
+		this.success = timer(registry, "success");
+		this.failure = timer(registry, "failure");
+	}
+	
+	private static Timer timer(MeterRegistry registry, String outcome) {
+		return Timer.builder("todolist.jwt.decode")
+				.description("Decodificação e validação de tokens JWT")
+				.tag("outcome", outcome)
+				.publishPercentileHistogram()
+				.register(registry);
+	}
+
+	@Override
+	public Jwt decode(String token) throws JwtException {
+		long start = System.nanoTime();
+		try {
+			Jwt jwt = delegate.decode(token);
+			success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			return jwt;
+		} catch (RuntimeException e) {
+			failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			throw e;
+		} finally {
+			ServerTiming.stop(Metric.JWT, start);
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package br.com.todolist.security;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * JwtEncoder que registra o tempo da assinatura dos tokens no timer 'todolist.jwt.encode'.
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class TimedJwtEncoder implements JwtEncoder {
+	
+	private final JwtEncoder delegate;
+	private final Timer timer;
+	
+	public TimedJwtEncoder(JwtEncoder delegate, MeterRegistry registry) {
+		this.delegate = delegate;
+		this.timer = Timer.builder("todolist.jwt.encode")
+				.description("Assinatura de tokens JWT")
+				.publishPercentileHistogram()
+				.register(registry);
+	}
+
+	@Override
+	public Jwt encode(JwtEncoderParameters parameters) throws JwtEncodingException {
+		return timer.record(() -> delegate.encode(parameters));
+	}
+}
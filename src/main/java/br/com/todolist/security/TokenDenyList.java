@@ -0,0 +1,94 @@
+package br.com.todolist.security;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import br.com.todolist.model.RevokedToken;
+import br.com.todolist.repository.RevokedTokenRepository;
+
+/**
+ * Lista de negação (deny-list) dos tokens JWT revogados.
+ * 
+ * <p>Mantém em memória apenas um filtro de Bloom com os identificadores ('jti') dos tokens revogados
+ * e ainda não expirados. Como a grande maioria dos tokens não está revogada, a verificação é resolvida
+ * somente em CPU; apenas quando o filtro indica uma possível revogação o banco de dados é consultado
+ * para confirmar, eliminando os falsos positivos.</p>
+ * 
+ * <p>O filtro é reconstruído periodicamente a partir da tabela 'revoked_token', o que descarta tokens já
+ * expirados e propaga revogações realizadas por outras instâncias da aplicação.</p>
+ * 
+ * <p>Uma revogação concorrente à reconstrução pode não constar na leitura do banco feita pela reconstrução.
+ * Por isso, os 'jtis' revogados localmente são mantidos em 'revokedSinceRefresh' e reinseridos no novo
+ * filtro após a troca; somente os que já existiam antes da leitura do banco são descartados do conjunto.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class TokenDenyList {
+	
+	private final RevokedTokenRepository revokedTokenRepository;
+	private final int expectedInsertions;
+	private final double falsePositiveRate;
+	private final Set<String> revokedSinceRefresh = ConcurrentHashMap.newKeySet();
+	private volatile BloomFilter filter;
+	
+	public TokenDenyList(RevokedTokenRepository revokedTokenRepository,
+			@Value("${security.jwt.deny-list.expected-insertions:100000}") int expectedInsertions,
+			@Value("${security.jwt.deny-list.false-positive-rate:0.01}") double falsePositiveRate) {
+		this.revokedTokenRepository = revokedTokenRepository;
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+		this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+	}
+	
+	/**
+	 * Revoga o token informado até a sua expiração.
+	 * 
+	 * @param Recebe o identificador do token (jti).
+	 * @param Recebe o instante de expiração do token.
+	 */
+	public void revoke(String jti, Instant expiresAt) {
+		revokedTokenRepository.save(new RevokedToken(jti, expiresAt));
+		revokedSinceRefresh.add(jti);
+		filter.put(jti);
+	}
+	
+	/**
+	 * Verifica se o token informado foi revogado.
+	 * 
+	 * @param Recebe o identificador do token (jti).
+	 * @return Retorna true caso o token esteja revogado.
+	 */
+	public boolean isRevoked(String jti) {
+		if(jti == null || !filter.mightContain(jti)) {
+			return false;
+		}
+		return revokedTokenRepository.existsById(jti);
+	}
+	
+	/**
+	 * Reconstrói o filtro com os tokens revogados ainda válidos e remove os registros expirados.
+	 */
+	@Scheduled(fixedDelayString = "${security.jwt.deny-list.refresh-interval:30s}")
+	public void refresh() {
+		Instant now = Instant.now();
+		revokedTokenRepository.deleteExpired(now);
+		Set<String> persisted = Set.copyOf(revokedSinceRefresh);
+		List<String> jtis = revokedTokenRepository.findActiveJtis(now);
+		
+		BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, jtis.size()), falsePositiveRate);
+		jtis.forEach(rebuilt::put);
+		revokedSinceRefresh.forEach(rebuilt::put);
+		filter = rebuilt;
+		revokedSinceRefresh.forEach(rebuilt::put);
+		revokedSinceRefresh.removeAll(persisted);
+	}
+}
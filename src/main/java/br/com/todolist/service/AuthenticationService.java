@@ -5,8 +5,10 @@ import org.springframework.stereotype.Service;
 
 import br.com.todolist.model.User;
 import br.com.todolist.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 
 @Service
+@Timed(value = "todolist.service", histogram = true)
 public class AuthenticationService {
     private final JwtService jwtService;
     private final UserRepository userRepository;
@@ -0,0 +1,250 @@
+package br.com.todolist.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.todolist.dto.projection.TaskField;
+import br.com.todolist.dto.projection.TaskSummaryView;
+import br.com.todolist.dto.projection.ViewMode;
+import br.com.todolist.model.Task;
+import br.com.todolist.model.TaskCategoriaNgram;
+import br.com.todolist.repository.TaskCategoriaNgramRepository;
+import br.com.todolist.repository.TaskRepository;
+
+/**
+ * Classe de serviço responsável pelo índice de trigramas da categoria das Tasks.
+ * 
+ * <p>A busca por parte da categoria ('LIKE %x%') não consegue utilizar índices B-tree e, portanto, varre
+ * toda a tabela 'task'. Este serviço mantém a tabela 'task_categoria_ngram' com os trigramas de cada
+ * categoria e resolve a busca pelos IDs que possuem todos os trigramas pesquisados.</p>
+ * 
+ * <p>Textos com menos de três caracteres não possuem trigramas e continuam sendo buscados pelo 'LIKE'
+ * tradicional.</p>
+ * 
+ * <p>O índice deve ser atualizado pelo TaskService em toda escrita que cria, altera a categoria ou
+ * remove uma Task.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class CategoriaNgramIndex {
+	
+	private static final Logger log = LoggerFactory.getLogger(CategoriaNgramIndex.class);
+	
+	static final int N = 3;
+	private static final int BACKFILL_PAGE_SIZE = 1000;
+	
+	private final TaskRepository taskRepository;
+	private final TaskCategoriaNgramRepository ngramRepository;
+	private final TransactionTemplate transactionTemplate;
+	
+	public CategoriaNgramIndex(TaskRepository taskRepository, TaskCategoriaNgramRepository ngramRepository,
+			PlatformTransactionManager transactionManager) {
+		this.taskRepository = taskRepository;
+		this.ngramRepository = ngramRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+	
+	/**
+	 * Gera os trigramas distintos do texto, em letras minúsculas.
+	 * 
+	 * @param Recebe o texto no formato String.
+	 * @return Retorna o conjunto de trigramas, vazio caso o texto tenha menos de três caracteres.
+	 */
+	static Set<String> ngrams(String value) {
+		Set<String> ngrams = new LinkedHashSet<>();
+		if(value == null) {
+			return ngrams;
+		}
+		
+		String normalized = value.toLowerCase(Locale.ROOT);
+		for(int i = 0; i + N <= normalized.length(); i++) {
+			ngrams.add(normalized.substring(i, i + N));
+		}
+		return ngrams;
+	}
+	
+	/**
+	 * Indexa (ou reindexa) a categoria das Tasks informadas.
+	 * 
+	 * @param Recebe as Tasks já persistidas.
+	 */
+	@Transactional
+	public void index(Collection<Task> tasks) {
+		if(tasks.isEmpty()) {
+			return;
+		}
+		
+		ngramRepository.deleteByTaskIdIn(tasks.stream().map(Task::getId).toList());
+		List<TaskCategoriaNgram> entries = new ArrayList<>();
+		for(Task task : tasks) {
+			ngrams(task.getCategoria()).forEach(ngram -> entries.add(new TaskCategoriaNgram(task.getId(), ngram)));
+		}
+		ngramRepository.saveAll(entries);
+	}
+	
+	/**
+	 * Indexa (ou reindexa) a categoria da Task informada.
+	 * 
+	 * @param Recebe a Task já persistida.
+	 */
+	@Transactional
+	public void index(Task task) {
+		index(List.of(task));
+	}
+	
+	/**
+	 * Reindexa a categoria de uma Task a partir do seu ID, sem precisar carregá-la.
+	 * 
+	 * @param Recebe o ID da Task no formato Long.
+	 * @param Recebe a nova categoria no formato String.
+	 */
+	@Transactional
+	public void index(Long taskId, String categoria) {
+		ngramRepository.deleteByTaskIdIn(List.of(taskId));
+		ngramRepository.saveAll(ngrams(categoria).stream().map(ngram -> new TaskCategoriaNgram(taskId, ngram)).toList());
+	}
+	
+	/**
+	 * Remove a Task do índice.
+	 * 
+	 * @param Recebe o ID da Task no formato Long.
+	 */
+	@Transactional
+	public void remove(Long taskId) {
+		ngramRepository.deleteByTaskIdIn(List.of(taskId));
+	}
+	
+	/**
+	 * Retorna uma página de Tasks cuja categoria contém o texto informado, incluindo o total de elementos.
+	 * 
+	 * @param Recebe um pageable, objeto que contém informações de paginação e ordenação.
+	 * @param Recebe a categoria no formato String.
+	 * @param Recebe o ViewMode, que define a projeção retornada.
+	 * @return Retorna um Page com as Tasks encontradas.
+	 */
+	public Page<? extends TaskSummaryView> search(Pageable pageable, String categoria, ViewMode viewMode) {
+		Set<String> ngrams = ngrams(categoria);
+		if(ngrams.isEmpty()) {
+			return taskRepository.findByCategoriaContainingIgnoreCase(pageable, categoria, viewMode.getType());
+		}
+		
+		String pattern = pattern(categoria);
+		return viewMode == ViewMode.SUMMARY
+				? taskRepository.findSummaryByCategoriaNgrams(pageable, pattern, ngrams, ngrams.size())
+				: taskRepository.findViewByCategoriaNgrams(pageable, pattern, ngrams, ngrams.size());
+	}
+	
+	/**
+	 * Retorna uma fatia de Tasks cuja categoria contém o texto informado, sem calcular o total.
+	 * 
+	 * @param Recebe um pageable, objeto que contém informações de paginação e ordenação.
+	 * @param Recebe a categoria no formato String.
+	 * @param Recebe o ViewMode, que define a projeção retornada.
+	 * @return Retorna um Slice com as Tasks encontradas.
+	 */
+	public Slice<? extends TaskSummaryView> searchSlice(Pageable pageable, String categoria, ViewMode viewMode) {
+		Set<String> ngrams = ngrams(categoria);
+		if(ngrams.isEmpty()) {
+			return taskRepository.findSliceByCategoriaContainingIgnoreCase(pageable, categoria, viewMode.getType());
+		}
+		
+		String pattern = pattern(categoria);
+		return viewMode == ViewMode.SUMMARY
+				? taskRepository.findSummarySliceByCategoriaNgrams(pageable, pattern, ngrams, ngrams.size())
+				: taskRepository.findViewSliceByCategoriaNgrams(pageable, pattern, ngrams, ngrams.size());
+	}
+	
+	/**
+	 * Retorna uma fatia de Tasks cuja categoria contém o texto informado, com somente os campos solicitados.
+	 * 
+	 * @param Recebe um pageable, objeto que contém informações de paginação e ordenação.
+	 * @param Recebe a categoria no formato String.
+	 * @param Recebe os campos que devem ser selecionados.
+	 * @return Retorna um Slice com um Map por Task encontrada.
+	 */
+	public Slice<Map<String, Object>> searchFields(Pageable pageable, String categoria, Set<TaskField> fields) {
+		return taskRepository.findFieldsByCategoria(fields, pattern(categoria), ngrams(categoria), pageable);
+	}
+	
+	/**
+	 * Retorna a quantidade de Tasks cuja categoria contém o texto informado.
+	 * 
+	 * @param Recebe a categoria no formato String.
+	 * @return Retorna a quantidade de Tasks encontradas.
+	 */
+	public long count(String categoria) {
+		Set<String> ngrams = ngrams(categoria);
+		if(ngrams.isEmpty()) {
+			return taskRepository.countByCategoriaContainingIgnoreCase(categoria);
+		}
+		return taskRepository.countByCategoriaNgrams(pattern(categoria), ngrams, ngrams.size());
+	}
+	
+	/**
+	 * Popula o índice na inicialização com as Tasks que ainda não possuem trigramas.
+	 * 
+	 * <p>As Tasks são percorridas em ordem de ID e cada bloco é indexado na sua própria transação, de forma
+	 * que um preenchimento interrompido é retomado na próxima inicialização a partir das Tasks restantes.
+	 * Categorias com menos de três caracteres não geram trigramas e são apenas percorridas.</p>
+	 * 
+	 * <p>Quando outra instância indexa as mesmas Tasks ao mesmo tempo, a chave primária do índice rejeita
+	 * os registros duplicados (ou o banco aborta uma das transações por 'deadlock'). Nesse caso o bloco é
+	 * descartado e o preenchimento é deixado para a outra instância.</p>
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		List<Task> tasks = taskRepository.findUnindexedAfter(0L, Limit.of(BACKFILL_PAGE_SIZE));
+		if(tasks.isEmpty()) {
+			return;
+		}
+		
+		log.info("Populating the categoria n-gram index.");
+		int indexed = 0;
+		while(!tasks.isEmpty()) {
+			List<Task> page = tasks;
+			try {
+				transactionTemplate.executeWithoutResult(status -> index(page));
+			} catch(DataIntegrityViolationException | PessimisticLockingFailureException exception) {
+				log.info("Another instance is populating the categoria n-gram index, stopping after {} tasks.", indexed);
+				return;
+			}
+			indexed += page.size();
+			tasks = taskRepository.findUnindexedAfter(page.get(page.size() - 1).getId(), Limit.of(BACKFILL_PAGE_SIZE));
+		}
+		log.info("Categoria n-gram index populated with {} tasks.", indexed);
+	}
+	
+	/**
+	 * Monta o padrão do 'LIKE' em letras minúsculas, escapando os caracteres especiais com '!'.
+	 */
+	private static String pattern(String categoria) {
+		String escaped = categoria.toLowerCase(Locale.ROOT)
+				.replace("!", "!!")
+				.replace("%", "!%")
+				.replace("_", "!_");
+		return "%" + escaped + "%";
+	}
+}
@@ -1,12 +1,15 @@
 package br.com.todolist.service;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
 
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 
+import br.com.todolist.model.Role;
 import br.com.todolist.model.User;
 
 @Service
@@ -20,13 +23,16 @@ public class JwtService {
     public String generateToken(User user) {
         Instant now = Instant.now();
         long expire = 3600L;
+        List<String> roles = user.getRoles() == null ? List.of() : user.getRoles().stream().map(Role::name).toList();
     
         var claims = JwtClaimsSet.builder()
                 .issuer("spring-security")
                 .issuedAt(now)
                 .expiresAt(now.plusSeconds(expire))
+                .id(UUID.randomUUID().toString())
                 .subject(user.getUsername())
                 .claim("userId", user.getId())
+                .claim("roles", roles)
                 .build();
     
         return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
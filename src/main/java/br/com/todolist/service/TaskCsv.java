@@ -0,0 +1,176 @@
+package br.com.todolist.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.todolist.dto.model.TaskResponseDTO;
+
+/**
+ * Utilitário de leitura e escrita de Tasks no formato CSV (RFC 4180).
+ * 
+ * <p>Os valores que contêm vírgula, aspas ou quebra de linha são delimitados por aspas duplas, e as
+ * aspas internas são duplicadas.</p>
+ * 
+ * <p>Como os valores entre aspas podem conter quebras de linha, a leitura é feita por registro através do
+ * RecordReader, e não por linha física.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+final class TaskCsv {
+	
+	static final int MAX_RECORD_LENGTH = 64 * 1024;
+	
+	static final String EXPORT_HEADER = "id,titulo,descricao,prioridade,dataLimite,concluida,categoria,criadaEm";
+	
+	private TaskCsv() {
+	}
+	
+	/**
+	 * Converte a Task em uma linha CSV, na ordem das colunas de 'EXPORT_HEADER'.
+	 * 
+	 * @param Recebe o TaskResponseDTO a ser convertido.
+	 * @return Retorna a linha CSV, sem a quebra de linha final.
+	 */
+	static String format(TaskResponseDTO task) {
+		StringBuilder line = new StringBuilder(128);
+		append(line, task.getId()).append(',');
+		append(line, task.getTitulo()).append(',');
+		append(line, task.getDescricao()).append(',');
+		append(line, task.getPrioridade()).append(',');
+		append(line, task.getDataLimite()).append(',');
+		append(line, task.getConcluida()).append(',');
+		append(line, task.getCategoria()).append(',');
+		append(line, task.getCriadaEm());
+		return line.toString();
+	}
+	
+	/**
+	 * Separa um registro CSV em seus valores.
+	 * 
+	 * @param Recebe o registro CSV, sem a quebra de linha final.
+	 * @return Retorna a lista de valores do registro.
+	 * @throws Retorna IllegalArgumentException caso existam aspas não finalizadas.
+	 */
+	static List<String> parse(String line) {
+		List<String> values = new ArrayList<>();
+		StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		
+		for(int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if(quoted) {
+				if(c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					value.append('"');
+					i++;
+				} else if(c == '"') {
+					quoted = false;
+				} else {
+					value.append(c);
+				}
+			} else if(c == '"') {
+				quoted = true;
+			} else if(c == ',') {
+				values.add(value.toString());
+				value.setLength(0);
+			} else {
+				value.append(c);
+			}
+		}
+		
+		if(quoted) {
+			throw new IllegalArgumentException("Unterminated quoted value.");
+		}
+		values.add(value.toString());
+		return values;
+	}
+	
+	private static StringBuilder append(StringBuilder line, Object value) {
+		if(value == null) {
+			return line;
+		}
+		
+		String text = value.toString();
+		if(text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+			return line.append(text);
+		}
+		return line.append('"').append(text.replace("\"", "\"\"")).append('"');
+	}
+	
+	/**
+	 * Verifica se a linha possui uma quantidade ímpar de aspas, ou seja, se abre ou fecha um valor entre aspas
+	 * que continua na linha seguinte. As aspas duplicadas ('""') não alteram o resultado.
+	 */
+	private static boolean togglesQuote(String line) {
+		boolean toggles = false;
+		for(int i = 0; i < line.length(); i++) {
+			if(line.charAt(i) == '"') {
+				toggles = !toggles;
+			}
+		}
+		return toggles;
+	}
+	
+	/**
+	 * Leitor de registros sobre um BufferedReader, que mantém a numeração das linhas físicas.
+	 * 
+	 * <p>Enquanto um valor entre aspas não é finalizado, as linhas seguintes são anexadas ao registro, unidas
+	 * por '\n'. Um registro com aspas nunca finalizadas é limitado a 'MAX_RECORD_LENGTH' caracteres, de forma
+	 * que uma aspa isolada não acumule o restante do arquivo em memória. Nesse caso, o registro é devolvido
+	 * incompleto e rejeitado pelo 'parse'.</p>
+	 */
+	static final class RecordReader {
+		
+		private final BufferedReader reader;
+		private long lineNumber;
+		private long recordLineNumber;
+		
+		RecordReader(BufferedReader reader) {
+			this.reader = reader;
+		}
+		
+		/**
+		 * Lê o próximo registro CSV, que pode ocupar várias linhas físicas.
+		 * 
+		 * @return Retorna o registro, sem a quebra de linha final, ou null no fim do fluxo.
+		 */
+		String next() throws IOException {
+			String line = nextLine();
+			if(line == null || !togglesQuote(line)) {
+				return line;
+			}
+			
+			StringBuilder record = new StringBuilder(line);
+			boolean quoted = true;
+			while(quoted && record.length() < MAX_RECORD_LENGTH && (line = reader.readLine()) != null) {
+				lineNumber++;
+				record.append('\n').append(line);
+				quoted = togglesQuote(line) != quoted;
+			}
+			return record.toString();
+		}
+		
+		/**
+		 * Lê a próxima linha física, sem considerar aspas.
+		 * 
+		 * @return Retorna a linha, sem a quebra de linha final, ou null no fim do fluxo.
+		 */
+		String nextLine() throws IOException {
+			String line = reader.readLine();
+			if(line != null) {
+				recordLineNumber = ++lineNumber;
+			}
+			return line;
+		}
+		
+		/**
+		 * Retorna o número da primeira linha física do último registro lido.
+		 */
+		long recordLineNumber() {
+			return recordLineNumber;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package br.com.todolist.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import br.com.todolist.exception.customException.ValidationException;
+
+/**
+ * Responsável por converter posições de paginação por cursor (keyset) em tokens opacos e vice-versa.
+ * 
+ * <p>O token carrega a ordenação utilizada, o valor da chave de ordenação e o ID da última Task
+ * retornada, permitindo que a próxima página seja buscada com um filtro 'WHERE (chave, id) > (?, ?)'
+ * ao invés de um 'OFFSET'.</p>
+ * 
+ * <p>Somente os atributos listados em 'SORT_KEYS' podem ser utilizados como chave de ordenação, pois
+ * são atributos não nulos cujo tipo é conhecido na decodificação.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+final class TaskCursorCodec {
+	
+	private static final String ID = "id";
+	
+	private static final Map<String, Function<String, Object>> SORT_KEYS = Map.of(
+			ID, Long::valueOf,
+			"criadaEm", LocalDateTime::parse,
+			"dataLimite", LocalDate::parse,
+			"titulo", value -> value);
+	
+	record Cursor(Sort sort, KeysetScrollPosition position) {
+	}
+	
+	private TaskCursorCodec() {
+	}
+	
+	/**
+	 * Extrai a ordenação da primeira página a partir da ordenação informada pelo cliente.
+	 * 
+	 * @param Recebe a ordenação informada na requisição.
+	 * @return Retorna a ordenação suportada pela paginação por cursor, por padrão 'id' ascendente.
+	 * @throws Retorna ValidationException caso a ordenação não seja suportada.
+	 */
+	static Sort sortOf(Sort sort) {
+		if(sort == null || sort.isUnsorted()) {
+			return Sort.by(ID);
+		}
+		
+		if(sort.stream().count() > 1) {
+			throw new ValidationException("Cursor pagination supports a single sort property.");
+		}
+		
+		Sort.Order order = sort.iterator().next();
+		if(!SORT_KEYS.containsKey(order.getProperty())) {
+			throw new ValidationException("Cursor pagination does not support sorting by '" + order.getProperty() + "'. Use one of: " + SORT_KEYS.keySet());
+		}
+		return Sort.by(order.getDirection(), order.getProperty());
+	}
+	
+	/**
+	 * Gera o token opaco que aponta para a posição informada.
+	 * 
+	 * @param Recebe a ordenação utilizada na consulta.
+	 * @param Recebe a posição da última Task retornada.
+	 * @return Retorna o token no formato Base64 URL-safe.
+	 */
+	static String encode(Sort sort, ScrollPosition position) {
+		Sort.Order order = sort.iterator().next();
+		Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+		
+		String raw = String.join("|",
+				order.getProperty(),
+				order.getDirection().name(),
+				String.valueOf(keys.get(ID)),
+				String.valueOf(keys.get(order.getProperty())));
+		
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Decodifica o token recebido do cliente.
+	 * 
+	 * @param Recebe o token opaco.
+	 * @return Retorna a ordenação e a posição representadas pelo token.
+	 * @throws Retorna ValidationException caso o token seja inválido.
+	 */
+	static Cursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", 4);
+			
+			Function<String, Object> parser = SORT_KEYS.get(parts[0]);
+			if(parts.length != 4 || parser == null) {
+				throw new ValidationException("Invalid cursor.");
+			}
+			
+			Sort sort = Sort.by(Sort.Direction.valueOf(parts[1]), parts[0]);
+			Map<String, Object> keys = new LinkedHashMap<>();
+			keys.put(parts[0], parser.apply(parts[3]));
+			keys.put(ID, Long.valueOf(parts[2]));
+			
+			return new Cursor(sort, ScrollPosition.forward(keys));
+		} catch (IllegalArgumentException | DateTimeParseException exception) {
+			throw new ValidationException("Invalid cursor.");
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package br.com.todolist.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import br.com.todolist.dto.model.TaskResponseDTO;
+import br.com.todolist.mapper.TaskMapper;
+import br.com.todolist.model.Task;
+import br.com.todolist.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Classe de serviço responsável pela exportação de todas as Tasks em fluxo contínuo (streaming).
+ * 
+ * <p>As Tasks são lidas por um cursor JDBC somente leitura, com 'fetch size' definido, e escritas
+ * diretamente na resposta HTTP, uma a uma. Cada Task é desanexada do contexto de persistência logo após
+ * ser escrita, de forma que o consumo de memória não depende da quantidade de registros.</p>
+ * 
+ * <p>Formatos suportados: NDJSON (um JSON por linha) e CSV.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class TaskExportService {
+	
+	private static final int FLUSH_INTERVAL = 500;
+	
+	private final TaskRepository taskRepository;
+	private final TaskMapper taskMapper;
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectWriter taskWriter;
+	
+	public TaskExportService(TaskRepository taskRepository, TaskMapper taskMapper, EntityManager entityManager,
+			PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+		this.taskRepository = taskRepository;
+		this.taskMapper = taskMapper;
+		this.entityManager = entityManager;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.taskWriter = objectMapper.writerFor(TaskResponseDTO.class).withRootValueSeparator("\n");
+	}
+	
+	/**
+	 * Escreve todas as Tasks no fluxo de saída informado.
+	 * 
+	 * @param Recebe o formato de exportação.
+	 * @param Recebe o fluxo de saída da resposta HTTP.
+	 */
+	public void export(TaskFileFormat format, OutputStream outputStream) {
+		transactionTemplate.executeWithoutResult(status -> {
+			try (Stream<Task> tasks = taskRepository.streamAllByOrderById()) {
+				OutputStream out = new BufferedOutputStream(outputStream);
+				if(format == TaskFileFormat.CSV) {
+					writeCsv(tasks, out);
+				} else {
+					writeNdjson(tasks, out);
+				}
+				out.flush();
+			} catch (IOException exception) {
+				throw new UncheckedIOException(exception);
+			}
+		});
+	}
+	
+	private void writeNdjson(Stream<Task> tasks, OutputStream out) throws IOException {
+		SequenceWriter writer = taskWriter.writeValues(out);
+		int[] written = {0};
+		tasks.forEach(task -> {
+			try {
+				writer.write(taskMapper.toResponseDTO(task));
+				entityManager.detach(task);
+				if(++written[0] % FLUSH_INTERVAL == 0) {
+					writer.flush();
+				}
+			} catch (IOException exception) {
+				throw new UncheckedIOException(exception);
+			}
+		});
+		writer.flush();
+		if(written[0] > 0) {
+			out.write('\n');
+		}
+	}
+	
+	private void writeCsv(Stream<Task> tasks, OutputStream out) throws IOException {
+		out.write((TaskCsv.EXPORT_HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+		int[] written = {0};
+		tasks.forEach(task -> {
+			try {
+				out.write((TaskCsv.format(taskMapper.toResponseDTO(task)) + "\n").getBytes(StandardCharsets.UTF_8));
+				entityManager.detach(task);
+				if(++written[0] % FLUSH_INTERVAL == 0) {
+					out.flush();
+				}
+			} catch (IOException exception) {
+				throw new UncheckedIOException(exception);
+			}
+		});
+	}
+}
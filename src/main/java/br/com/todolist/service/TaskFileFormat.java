@@ -0,0 +1,70 @@
+package br.com.todolist.service;
+
+import org.springframework.http.MediaType;
+
+import br.com.todolist.exception.customException.ValidationException;
+
+/**
+ * Enum que representa os formatos de arquivo suportados na exportação e na importação de Tasks.
+ * 
+ * <ul>
+ * 	<li>NDJSON: um objeto JSON por linha ('application/x-ndjson').</li>
+ * 	<li>CSV: valores separados por vírgula, com linha de cabeçalho ('text/csv').</li>
+ * </ul>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum TaskFileFormat {
+	NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+	CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+	
+	private final MediaType mediaType;
+	private final String extension;
+	
+	TaskFileFormat(MediaType mediaType, String extension) {
+		this.mediaType = mediaType;
+		this.extension = extension;
+	}
+	
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+	
+	public String getExtension() {
+		return extension;
+	}
+	
+	/**
+	 * Converte o valor do parâmetro 'format' da requisição.
+	 * 
+	 * @param Recebe o formato informado: ndjson ou csv.
+	 * @return Retorna o TaskFileFormat correspondente.
+	 * @throws Retorna ValidationException caso o formato não seja suportado.
+	 */
+	public static TaskFileFormat from(String value) {
+		for(TaskFileFormat format : values()) {
+			if(format.extension.equalsIgnoreCase(value)) {
+				return format;
+			}
+		}
+		throw new ValidationException("Invalid value for 'format'. Use one of: ndjson, csv.");
+	}
+	
+	/**
+	 * Converte o 'Content-Type' da requisição.
+	 * 
+	 * @param Recebe o MediaType informado no cabeçalho 'Content-Type'.
+	 * @return Retorna o TaskFileFormat correspondente.
+	 * @throws Retorna ValidationException caso o formato não seja suportado.
+	 */
+	public static TaskFileFormat from(MediaType mediaType) {
+		for(TaskFileFormat format : values()) {
+			if(format.mediaType.isCompatibleWith(mediaType)) {
+				return format;
+			}
+		}
+		throw new ValidationException("Unsupported content type. Use application/x-ndjson or text/csv.");
+	}
+}
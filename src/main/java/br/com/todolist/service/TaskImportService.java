@@ -0,0 +1,321 @@
+package br.com.todolist.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import br.com.todolist.dto.batch.ImportSummaryDTO;
+import br.com.todolist.dto.batch.RejectedLineDTO;
+import br.com.todolist.dto.model.TaskRequestDTO;
+import br.com.todolist.exception.customException.ValidationException;
+import br.com.todolist.mapper.TaskMapper;
+import br.com.todolist.model.Task;
+import br.com.todolist.model.enumeration.Prioridade;
+import br.com.todolist.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Classe de serviço responsável pela importação de Tasks em fluxo contínuo, nos formatos NDJSON ou CSV.
+ * 
+ * <p>O corpo da requisição é lido registro a registro e agrupado em blocos de tamanho fixo. No NDJSON cada
+ * linha é um registro. No CSV, um registro ocupa várias linhas quando um valor entre aspas contém quebras de
+ * linha, e as linhas rejeitadas são informadas pelo número da primeira linha do registro. As linhas de cada
+ * bloco são divididas em partes convertidas e validadas em paralelo, e as Tasks válidas são gravadas em
+ * lotes JDBC. Ambas as etapas utilizam o pool limitado 'taskImportExecutor', compartilhado por todas as
+ * importações, de forma que importações simultâneas não criam threads nem ocupam o ForkJoinPool comum.</p>
+ * 
+ * <p>Enquanto um bloco é gravado, o próximo já é lido e validado. Só existe um bloco em gravação por vez:
+ * a leitura aguarda a gravação anterior terminar antes de enviar um novo bloco, o que limita o consumo de
+ * memória independentemente do tamanho do arquivo (back-pressure).</p>
+ * 
+ * <p>Cada bloco é gravado em sua própria transação. Uma falha de banco interrompe a importação, mantendo
+ * os blocos já gravados.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class TaskImportService {
+	
+	private static final List<String> CSV_REQUIRED_COLUMNS = List.of("titulo", "descricao", "prioridade", "dataLimite", "categoria");
+	
+	private record RawLine(long number, String text) {
+	}
+	
+	private record ParsedLine(long number, TaskRequestDTO taskRequestDTO, Map<String, String> fieldErrors) {
+	}
+	
+	@FunctionalInterface
+	private interface LineParser {
+		ParsedLine parse(RawLine line);
+	}
+	
+	private final TaskRepository taskRepository;
+	private final TaskMapper taskMapper;
+	private final TaskRequestValidator taskRequestValidator;
+	private final CategoriaNgramIndex categoriaNgramIndex;
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectReader taskReader;
+	private final ThreadPoolTaskExecutor importExecutor;
+	
+	@Value("${tasks.import.batch-size:500}")
+	private int batchSize;
+	
+	@Value("${tasks.import.max-reported-rejections:1000}")
+	private int maxReportedRejections;
+	
+	public TaskImportService(TaskRepository taskRepository, TaskMapper taskMapper, TaskRequestValidator taskRequestValidator,
+			CategoriaNgramIndex categoriaNgramIndex, EntityManager entityManager, PlatformTransactionManager transactionManager,
+			ObjectMapper objectMapper, @Qualifier("taskImportExecutor") ThreadPoolTaskExecutor importExecutor) {
+		this.taskRepository = taskRepository;
+		this.taskMapper = taskMapper;
+		this.taskRequestValidator = taskRequestValidator;
+		this.categoriaNgramIndex = categoriaNgramIndex;
+		this.entityManager = entityManager;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.taskReader = objectMapper.readerFor(TaskRequestDTO.class);
+		this.importExecutor = importExecutor;
+	}
+	
+	/**
+	 * Importa as Tasks contidas no fluxo de entrada.
+	 * 
+	 * @param Recebe o formato do conteúdo enviado.
+	 * @param Recebe o fluxo de entrada da requisição.
+	 * @return Retorna um ImportSummaryDTO com o resumo da importação e as linhas rejeitadas.
+	 * @throws Retorna ValidationException caso o cabeçalho do CSV não possua as colunas obrigatórias.
+	 */
+	public ImportSummaryDTO importTasks(TaskFileFormat format, InputStream inputStream) {
+		ImportState state = new ImportState(maxReportedRejections);
+		CompletableFuture<Void> pendingWrite = CompletableFuture.completedFuture(null);
+		
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+			TaskCsv.RecordReader records = new TaskCsv.RecordReader(reader);
+			boolean csv = format == TaskFileFormat.CSV;
+			LineParser parser = this::parseJson;
+			
+			if(csv) {
+				String header = records.next();
+				if(header == null) {
+					return state.summary();
+				}
+				parser = csvParser(header);
+			}
+			
+			List<RawLine> chunk = new ArrayList<>(batchSize);
+			String record;
+			
+			while((record = csv ? records.next() : records.nextLine()) != null) {
+				if(record.isBlank()) {
+					continue;
+				}
+				
+				chunk.add(new RawLine(records.recordLineNumber(), record));
+				if(chunk.size() == batchSize) {
+					pendingWrite = process(chunk, parser, state, pendingWrite);
+					chunk = new ArrayList<>(batchSize);
+				}
+			}
+			
+			if(!chunk.isEmpty()) {
+				pendingWrite = process(chunk, parser, state, pendingWrite);
+			}
+			pendingWrite.join();
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		} finally {
+			// Uma falha na leitura não deixa um bloco sendo gravado após o término da requisição.
+			pendingWrite.exceptionally(exception -> null).join();
+		}
+		
+		return state.summary();
+	}
+	
+	/**
+	 * Valida o bloco em paralelo e agenda a sua gravação após o término da gravação anterior.
+	 * 
+	 * <p>Somente a thread da requisição aguarda as tarefas do pool, portanto um pool ocupado por outras
+	 * importações atrasa a importação, mas não a bloqueia.</p>
+	 */
+	private CompletableFuture<Void> process(List<RawLine> chunk, LineParser parser, ImportState state,
+			CompletableFuture<Void> previousWrite) {
+		int parts = Math.min(importExecutor.getMaxPoolSize(), chunk.size());
+		List<CompletableFuture<List<ParsedLine>>> parsing = new ArrayList<>(parts);
+		for(int i = 0; i < parts; i++) {
+			List<RawLine> part = chunk.subList(i * chunk.size() / parts, (i + 1) * chunk.size() / parts);
+			parsing.add(CompletableFuture.supplyAsync(() -> part.stream().map(parser::parse).toList(), importExecutor));
+		}
+		
+		List<Task> tasks = new ArrayList<>(chunk.size());
+		for(CompletableFuture<List<ParsedLine>> parsedPart : parsing) {
+			for(ParsedLine parsedLine : parsedPart.join()) {
+				if(parsedLine.fieldErrors().isEmpty()) {
+					tasks.add(taskMapper.toEntity(parsedLine.taskRequestDTO()));
+				} else {
+					state.reject(parsedLine.number(), parsedLine.fieldErrors());
+				}
+			}
+		}
+		state.processed(chunk.size());
+		
+		previousWrite.join();
+		return CompletableFuture.runAsync(() -> {
+			write(tasks);
+			state.imported(tasks.size());
+		}, importExecutor);
+	}
+	
+	private void write(List<Task> tasks) {
+		if(tasks.isEmpty()) {
+			return;
+		}
+		
+		transactionTemplate.executeWithoutResult(status -> {
+			List<Task> tasksCreated = taskRepository.saveAll(tasks);
+			categoriaNgramIndex.index(tasksCreated);
+			entityManager.flush();
+			entityManager.clear();
+		});
+	}
+	
+	private ParsedLine parseJson(RawLine line) {
+		try {
+			TaskRequestDTO taskRequestDTO = taskReader.readValue(line.text());
+			return new ParsedLine(line.number(), taskRequestDTO, taskRequestValidator.validate(taskRequestDTO));
+		} catch (JsonProcessingException exception) {
+			return new ParsedLine(line.number(), null, Map.of("line", "Invalid JSON: " + exception.getOriginalMessage()));
+		}
+	}
+	
+	/**
+	 * Cria o conversor de linhas CSV a partir do cabeçalho, permitindo que as colunas estejam em qualquer ordem.
+	 */
+	private LineParser csvParser(String header) {
+		List<String> columns = TaskCsv.parse(header).stream().map(String::trim).toList();
+		List<String> missing = CSV_REQUIRED_COLUMNS.stream().filter(column -> !columns.contains(column)).toList();
+		if(!missing.isEmpty()) {
+			throw new ValidationException("The CSV header is missing the columns: " + missing);
+		}
+		
+		int titulo = columns.indexOf("titulo");
+		int descricao = columns.indexOf("descricao");
+		int prioridade = columns.indexOf("prioridade");
+		int dataLimite = columns.indexOf("dataLimite");
+		int concluida = columns.indexOf("concluida");
+		int categoria = columns.indexOf("categoria");
+		
+		return line -> {
+			List<String> values;
+			try {
+				values = TaskCsv.parse(line.text());
+			} catch (IllegalArgumentException exception) {
+				return new ParsedLine(line.number(), null, Map.of("line", exception.getMessage()));
+			}
+			if(values.size() != columns.size()) {
+				return new ParsedLine(line.number(), null, Map.of("line", "Expected " + columns.size() + " columns but found " + values.size() + "."));
+			}
+			
+			Map<String, String> fieldErrors = new HashMap<>();
+			TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
+			taskRequestDTO.setTitulo(emptyToNull(values.get(titulo)));
+			taskRequestDTO.setDescricao(emptyToNull(values.get(descricao)));
+			taskRequestDTO.setCategoria(emptyToNull(values.get(categoria)));
+			
+			String prioridadeValue = emptyToNull(values.get(prioridade));
+			if(prioridadeValue != null) {
+				try {
+					taskRequestDTO.setPrioridade(Prioridade.valueOf(prioridadeValue.trim().toUpperCase()));
+				} catch (IllegalArgumentException exception) {
+					fieldErrors.put("prioridade", "Invalid value. Choose between: ALTA, MEDIA or BAIXA.");
+				}
+			}
+			
+			String dataLimiteValue = emptyToNull(values.get(dataLimite));
+			if(dataLimiteValue != null) {
+				try {
+					taskRequestDTO.setDataLimite(LocalDate.parse(dataLimiteValue.trim()));
+				} catch (DateTimeParseException exception) {
+					fieldErrors.put("dataLimite", "Invalid date. Use the format yyyy-MM-dd.");
+				}
+			}
+			
+			String concluidaValue = concluida >= 0 ? emptyToNull(values.get(concluida)) : null;
+			if(concluidaValue != null) {
+				if(concluidaValue.trim().equalsIgnoreCase("true")) {
+					taskRequestDTO.setConcluida(true);
+				} else if(concluidaValue.trim().equalsIgnoreCase("false")) {
+					taskRequestDTO.setConcluida(false);
+				} else {
+					fieldErrors.put("concluida", "Invalid value. Use true or false.");
+				}
+			}
+			
+			taskRequestValidator.validate(taskRequestDTO).forEach(fieldErrors::putIfAbsent);
+			return new ParsedLine(line.number(), taskRequestDTO, fieldErrors);
+		};
+	}
+	
+	private static String emptyToNull(String value) {
+		return value == null || value.isEmpty() ? null : value;
+	}
+	
+	/**
+	 * Acumula o resultado da importação. As rejeições são registradas pela thread da requisição e as
+	 * gravações pelas threads do pool de importação.
+	 */
+	private static final class ImportState {
+		
+		private final int maxReportedRejections;
+		private final List<RejectedLineDTO> rejectedLines = new ArrayList<>();
+		private final AtomicLong imported = new AtomicLong();
+		private long processed;
+		private long rejected;
+		
+		ImportState(int maxReportedRejections) {
+			this.maxReportedRejections = maxReportedRejections;
+		}
+		
+		void processed(int lines) {
+			processed += lines;
+		}
+		
+		void imported(int tasks) {
+			imported.addAndGet(tasks);
+		}
+		
+		void reject(long line, Map<String, String> fieldErrors) {
+			rejected++;
+			if(rejectedLines.size() < maxReportedRejections) {
+				rejectedLines.add(new RejectedLineDTO(line, fieldErrors));
+			}
+		}
+		
+		ImportSummaryDTO summary() {
+			return new ImportSummaryDTO(processed, imported.get(), rejected, rejected > rejectedLines.size(), rejectedLines);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package br.com.todolist.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import br.com.todolist.dto.model.TaskRequestDTO;
+import br.com.todolist.dto.projection.TaskField;
+import br.com.todolist.model.Task;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Componente que aplica a Bean Validation do TaskRequestDTO fora do fluxo do '@Valid'.
+ * 
+ * <p>Utilizado nas operações em lote, em que cada item é validado individualmente e os itens inválidos
+ * são reportados sem interromper o processamento dos demais, e na atualização parcial. É seguro para uso
+ * concorrente.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class TaskRequestValidator {
+	
+	private final Validator validator;
+	
+	public TaskRequestValidator(Validator validator) {
+		this.validator = validator;
+	}
+	
+	/**
+	 * Valida o TaskRequestDTO, retornando os erros por campo.
+	 * 
+	 * @param Recebe o TaskRequestDTO a ser validado.
+	 * @return Retorna um mapa com o nome do campo e a mensagem de erro, vazio caso os dados sejam válidos.
+	 */
+	public Map<String, String> validate(TaskRequestDTO taskRequestDTO) {
+		Map<String, String> fieldErrors = new HashMap<>();
+		if(taskRequestDTO == null) {
+			fieldErrors.put("task", "The task must not be null.");
+			return fieldErrors;
+		}
+		
+		validator.validate(taskRequestDTO)
+				.forEach(violation -> fieldErrors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+		return fieldErrors;
+	}
+	
+	/**
+	 * Valida os novos valores de uma atualização parcial contra as restrições da entidade Task.
+	 * 
+	 * <p>Necessário porque a atualização parcial não carrega a Task, e a validação que o Hibernate faria
+	 * antes do UPDATE não acontece.</p>
+	 * 
+	 * @param Recebe os novos valores de cada campo alterado.
+	 * @return Retorna as violações encontradas, vazio caso os valores sejam válidos.
+	 */
+	public Set<ConstraintViolation<Task>> validateChanges(Map<TaskField, Object> changes) {
+		Set<ConstraintViolation<Task>> violations = new HashSet<>();
+		changes.forEach((field, value) -> violations.addAll(validator.validateValue(Task.class, field.getAttribute(), value)));
+		return violations;
+	}
+}
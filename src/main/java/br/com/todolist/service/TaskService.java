@@ -1,18 +1,55 @@
 package br.com.todolist.service;
 
-import org.modelmapper.ModelMapper;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.todolist.cache.SingleFlight;
+import br.com.todolist.cache.TaskCounter;
+import br.com.todolist.cache.TaskJsonCache;
+import br.com.todolist.dto.batch.BatchTaskResponseDTO;
+import br.com.todolist.dto.batch.BatchTaskResultDTO;
+import br.com.todolist.dto.batch.TaskLookupResponseDTO;
 import br.com.todolist.dto.model.TaskPatchDTO;
 import br.com.todolist.dto.model.TaskRequestDTO;
 import br.com.todolist.dto.model.TaskResponseDTO;
+import br.com.todolist.dto.pagination.CountMode;
+import br.com.todolist.dto.pagination.CursorPaginationResponseDTO;
 import br.com.todolist.dto.pagination.PaginationResponseDTO;
+import br.com.todolist.dto.projection.TaskCollectionVersion;
+import br.com.todolist.dto.projection.TaskField;
+import br.com.todolist.dto.projection.TaskSummaryView;
+import br.com.todolist.dto.projection.ViewMode;
 import br.com.todolist.exception.customException.InvalidTaskStateException;
+import br.com.todolist.exception.customException.PreconditionFailedException;
 import br.com.todolist.exception.customException.ResourceNotFoundException;
+import br.com.todolist.exception.customException.ValidationException;
+import br.com.todolist.mapper.TaskMapper;
 import br.com.todolist.model.Task;
 import br.com.todolist.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 
 /**
  * Classe de serviço responsável por aplicar as regras de negócio da aplicação ToDoList.
@@ -20,41 +57,124 @@ import br.com.todolist.repository.TaskRepository;
  * <p>Realiza o processamento das operações relacionadas à entidade 'Task', como criação, atualização,
  * exclusão, marcação de conclusão, listagem paginada e filtragem por categoria.</p>
  * 
- * <p>Utiliza ModelMapper para conversão entre entidades e DTOs, promovendo desacoplamento entre as
- * camadas da aplicação.</p>
+ * <p>Utiliza o TaskMapper, gerado pelo MapStruct, para conversão entre entidades e DTOs, promovendo
+ * desacoplamento entre as camadas da aplicação.</p>
+ * 
+ * <p>As listagens paginadas retornam projeções (TaskView ou TaskSummaryView) em transações somente
+ * leitura, selecionando apenas as colunas necessárias.</p>
  * 
  * <p>Também aplica validações, como verificação de tentativa de alteração em tarefas já concluídas.</p>
  * 
+ * <p>Cada método público é medido pelo timer 'todolist.service', com as tags 'class' e 'method'.</p>
+ * 
  * @author Pedro Lauton
  * @version 1.0
  * @since 20/04/2025
  */
 @Service
+@Timed(value = "todolist.service", histogram = true)
 public class TaskService {
 	
 	private final TaskRepository taskRepository;
-	private final ModelMapper modelMapper;
+	private final TaskMapper taskMapper;
+	private final TaskCounter taskCounter;
+	private final TaskRequestValidator taskRequestValidator;
+	private final CategoriaNgramIndex categoriaNgramIndex;
+	private final TaskJsonCache taskJsonCache;
+	private final ObjectMapper objectMapper;
+	private final SingleFlight<List<Object>, TaskJsonCache.Entry> taskByIdFlight;
+	
+	@Value("${tasks.batch.max-size:1000}")
+	private int maxBatchSize;
+	
+	@Value("${tasks.lookup.max-ids:100}")
+	private int maxLookupSize;
 	
-	public TaskService(TaskRepository taskRepository, ModelMapper modelMapper) {
+	public TaskService(TaskRepository taskRepository, TaskMapper taskMapper, TaskCounter taskCounter, TaskRequestValidator taskRequestValidator,
+			CategoriaNgramIndex categoriaNgramIndex, TaskJsonCache taskJsonCache, ObjectMapper objectMapper,
+			SingleFlight<List<Object>, TaskJsonCache.Entry> taskByIdFlight) {
 		this.taskRepository = taskRepository;
-		this.modelMapper = modelMapper;
+		this.taskMapper = taskMapper;
+		this.taskCounter = taskCounter;
+		this.taskRequestValidator = taskRequestValidator;
+		this.categoriaNgramIndex = categoriaNgramIndex;
+		this.taskJsonCache = taskJsonCache;
+		this.objectMapper = objectMapper;
+		this.taskByIdFlight = taskByIdFlight;
 	}
 	
 	/**
 	 * Retorna todas as Tasks registradas com suporte à paginação.
 	 * 
 	 * @param Recebe um pageable, objeto que contém informações de paginação e ordenação.
+	 * @param Recebe o CountMode, que define como o total de Tasks é calculado.
+	 * @param Recebe o ViewMode, que define a projeção retornada.
 	 * @return Retorna um PaginationResponseDTO que contém uma lista de Tasks paginadas.
 	 */
-	public PaginationResponseDTO getAllTasks(Pageable pageable){
+	@Transactional(readOnly = true)
+	public PaginationResponseDTO<? extends TaskSummaryView> getAllTasks(Pageable pageable, CountMode countMode, ViewMode viewMode){
 		
 		if(pageable.getSort() != null) {
 			
 		}
 		
-		Page<Task> tasks = taskRepository.findAll(pageable);
+		return switch (countMode) {
+			case EXACT -> new PaginationResponseDTO<>(taskRepository.findPageBy(pageable, viewMode.getType()));
+			case NONE -> new PaginationResponseDTO<>(taskRepository.findSliceBy(pageable, viewMode.getType()));
+			case APPROXIMATE -> new PaginationResponseDTO<>(taskRepository.findSliceBy(pageable, viewMode.getType()), taskCounter.approximateTotal());
+		};
+	}
+	
+	/**
+	 * Retorna todas as Tasks registradas com suporte à paginação, contendo somente os campos solicitados.
+	 * 
+	 * @param Recebe um pageable, objeto que contém informações de paginação e ordenação.
+	 * @param Recebe o CountMode, que define como o total de Tasks é calculado.
+	 * @param Recebe os campos que devem ser selecionados.
+	 * @return Retorna um PaginationResponseDTO com um Map por Task.
+	 */
+	@Transactional(readOnly = true)
+	public PaginationResponseDTO<Map<String, Object>> getAllTaskFields(Pageable pageable, CountMode countMode, Set<TaskField> fields){
+		Slice<Map<String, Object>> tasks = taskRepository.findFields(fields, pageable);
 		
-	    return new PaginationResponseDTO(tasks);
+		return switch (countMode) {
+			case EXACT -> new PaginationResponseDTO<>(PageableExecutionUtils.getPage(tasks.getContent(), pageable, taskRepository::count));
+			case NONE -> new PaginationResponseDTO<>(tasks);
+			case APPROXIMATE -> new PaginationResponseDTO<>(tasks, taskCounter.approximateTotal());
+		};
+	}
+	
+	/**
+	 * Retorna as Tasks registradas utilizando paginação por cursor (keyset).
+	 * 
+	 * <p>Na primeira página, a ordenação é extraída do pageable. Nas páginas seguintes, a ordenação
+	 * e a posição são extraídas do cursor recebido no parâmetro 'after'.</p>
+	 * 
+	 * @param Recebe o cursor da página anterior, ou nulo para a primeira página.
+	 * @param Recebe um pageable, do qual são utilizados somente o tamanho e a ordenação.
+	 * @param Recebe um boolean indicando se o total de Tasks deve ser calculado.
+	 * @return Retorna um CursorPaginationResponseDTO com as Tasks e o cursor da próxima página.
+	 * @throws Retorna ValidationException caso o cursor ou a ordenação sejam inválidos.
+	 */
+	@Transactional(readOnly = true)
+	public CursorPaginationResponseDTO getAllTasksByCursor(String after, Pageable pageable, boolean count) {
+		Sort sort;
+		ScrollPosition position;
+		
+		if(after == null || after.isBlank()) {
+			sort = TaskCursorCodec.sortOf(pageable.getSort());
+			position = ScrollPosition.keyset();
+		} else {
+			TaskCursorCodec.Cursor cursor = TaskCursorCodec.decode(after);
+			sort = cursor.sort();
+			position = cursor.position();
+		}
+		
+		Window<Task> window = taskRepository.findAllBy(position, sort, Limit.of(pageable.getPageSize()));
+		String nextCursor = window.hasNext() ? TaskCursorCodec.encode(sort, window.positionAt(window.size() - 1)) : null;
+		Long totalElements = count ? taskRepository.count() : null;
+		
+		return new CursorPaginationResponseDTO(window.getContent(), window.size(), window.hasNext(), nextCursor, totalElements);
 	}
 	
 	/**
@@ -64,23 +184,208 @@ public class TaskService {
 	 * @return TaskResponseDTO com os detalhes da Task.
 	 * @throws Retorna a exceção ResourceNotFoundException caso não encontre a Task.
 	 */
+	@Transactional(readOnly = true)
 	public TaskResponseDTO getTaskById(Long id){
 		Task task = taskRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Task not found by Id."));
 		
-		return modelMapper.map(task, TaskResponseDTO.class);
+		return taskMapper.toResponseDTO(task);
+	}
+	
+	/**
+	 * Retorna o JSON serializado de uma Task com base no ID fornecido.
+	 * 
+	 * @param Recebe o ID no formato Long.
+	 * @return Retorna a Entry com a versão e os bytes do JSON da Task.
+	 * @throws Retorna a exceção ResourceNotFoundException caso não encontre a Task.
+	 */
+	public TaskJsonCache.Entry getTaskJson(Long id){
+		return getTaskJson(id, getTaskJsonVersion(id));
+	}
+	
+	/**
+	 * Retorna a versão atual da Task, utilizada para o seu ETag e para a validação do TaskJsonCache.
+	 * 
+	 * <p>Tasks concluídas não podem mais ser alteradas, portanto a versão em cache é retornada sem acesso
+	 * ao banco. Para as demais, somente a versão é consultada, sem carregar a Task.</p>
+	 * 
+	 * @param Recebe o ID no formato Long.
+	 * @return Retorna a versão da Task.
+	 * @throws Retorna a exceção ResourceNotFoundException caso não encontre a Task.
+	 */
+	public long getTaskJsonVersion(Long id){
+		TaskJsonCache.Entry cached = taskJsonCache.get(id);
+		if(cached != null && cached.isConcluida()) {
+			return cached.getVersao();
+		}
+		return getTaskVersion(id);
+	}
+	
+	/**
+	 * Retorna o JSON serializado de uma Task na versão obtida pelo 'getTaskJsonVersion'.
+	 * 
+	 * <p>O JSON é mantido no TaskJsonCache junto da versão que o originou. A Task é carregada, mapeada e
+	 * serializada apenas quando a entrada em cache não corresponde à versão informada, de forma que quem já
+	 * avaliou a versão (por exemplo, um 'If-None-Match') não consulta o banco novamente.</p>
+	 * 
+	 * <p>Requisições simultâneas que encontram a mesma versão desatualizada compartilham uma única carga
+	 * (SingleFlight), evitando que uma Task muito acessada seja consultada por todas elas após uma
+	 * invalidação.</p>
+	 * 
+	 * <p>O método não é transacional, para que os acertos no cache e as requisições que aguardam a carga
+	 * não mantenham uma conexão.</p>
+	 * 
+	 * @param Recebe o ID no formato Long.
+	 * @param Recebe a versão atual da Task.
+	 * @return Retorna a Entry com a versão e os bytes do JSON da Task.
+	 * @throws Retorna a exceção ResourceNotFoundException caso não encontre a Task.
+	 */
+	public TaskJsonCache.Entry getTaskJson(Long id, long versao){
+		TaskJsonCache.Entry cached = taskJsonCache.get(id);
+		if(cached != null && (cached.isConcluida() || cached.getVersao() == versao)) {
+			return cached;
+		}
+		
+		return taskByIdFlight.execute(List.of(id, versao), () -> loadTaskJson(id));
+	}
+	
+	/**
+	 * Carrega, mapeia e serializa a Task, armazenando o JSON no TaskJsonCache.
+	 * 
+	 * @param id ID da Task.
+	 * @return Retorna a Entry criada.
+	 */
+	private TaskJsonCache.Entry loadTaskJson(Long id) {
+		TaskResponseDTO taskResponseDTO = getTaskById(id);
+		try {
+			return taskJsonCache.put(id, taskResponseDTO.getVersao(), Boolean.TRUE.equals(taskResponseDTO.getConcluida()),
+					objectMapper.writeValueAsBytes(taskResponseDTO));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize Task " + id + ".", e);
+		}
+	}
+	
+	/**
+	 * Retorna a versão atual da Task, sem carregá-la, para a geração do seu ETag.
+	 * 
+	 * @param Recebe o ID no formato Long.
+	 * @return Retorna a versão da Task.
+	 * @throws Retorna a exceção ResourceNotFoundException caso não encontre a Task.
+	 */
+	@Transactional(readOnly = true)
+	public long getTaskVersion(Long id){
+		return taskRepository.findVersaoById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Task not found by Id."));
+	}
+	
+	/**
+	 * Retorna o resumo de versão da tabela de Tasks, para a geração do ETag das listagens.
+	 * 
+	 * @return Retorna um TaskCollectionVersion com a quantidade, a soma das versões e o maior ID.
+	 */
+	@Transactional(readOnly = true)
+	public TaskCollectionVersion getCollectionVersion(){
+		return taskRepository.findCollectionVersion();
+	}
+	
+	/**
+	 * Retorna várias Tasks com base nos IDs fornecidos, utilizando uma única consulta 'IN'.
+	 * 
+	 * <p>IDs repetidos são considerados uma única vez. As Tasks retornadas seguem a ordem dos IDs
+	 * enviados e os IDs inexistentes são informados em 'missingIds'.</p>
+	 * 
+	 * @param Recebe a lista de IDs no formato Long.
+	 * @return Retorna um TaskLookupResponseDTO com as Tasks encontradas e os IDs inexistentes.
+	 * @throws Retorna ValidationException caso a lista esteja vazia ou exceda o tamanho máximo permitido.
+	 */
+	@Transactional(readOnly = true)
+	public TaskLookupResponseDTO getTasksByIds(List<Long> ids){
+		Set<Long> distinctIds = ids == null ? Set.of() : ids.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		
+		if(distinctIds.isEmpty()) {
+			throw new ValidationException("The parameter 'ids' must contain at least one id.");
+		}
+		if(distinctIds.size() > maxLookupSize) {
+			throw new ValidationException("The parameter 'ids' must contain at most " + maxLookupSize + " ids.");
+		}
+		
+		Map<Long, Task> tasksById = new HashMap<>();
+		taskRepository.findAllById(distinctIds).forEach(task -> tasksById.put(task.getId(), task));
+		
+		List<TaskResponseDTO> tasks = new ArrayList<>(tasksById.size());
+		List<Long> missingIds = new ArrayList<>();
+		for(Long id : distinctIds) {
+			Task task = tasksById.get(id);
+			if(task != null) {
+				tasks.add(taskMapper.toResponseDTO(task));
+			} else {
+				missingIds.add(id);
+			}
+		}
+		
+		return new TaskLookupResponseDTO(tasks, missingIds);
+	}
+	
+	/**
+	 * Retorna uma Task com base no ID fornecido, contendo somente os campos solicitados.
+	 * 
+	 * @param Recebe o ID no formato Long.
+	 * @param Recebe os campos que devem ser selecionados.
+	 * @return Retorna um Map com os campos da Task.
+	 * @throws Retorna a exceção ResourceNotFoundException caso não encontre a Task.
+	 */
+	@Transactional(readOnly = true)
+	public Map<String, Object> getTaskFieldsById(Long id, Set<TaskField> fields){
+		return taskRepository.findFieldsById(fields, id)
+				.orElseThrow(() -> new ResourceNotFoundException("Task not found by Id."));
 	}
 	
 	/**
 	 * Retorna uma lista paginada de Tasks que correspondem a categoria pesquisada.
 	 * 
+	 * <p>A busca é resolvida pelo índice de trigramas da categoria (CategoriaNgramIndex).</p>
+	 * 
 	 * @param Recebe um pageable, objeto que contém informações de paginação e ordenação.
 	 * @param Recebe a Categoria no formato String.
+	 * @param Recebe o CountMode, que define como o total de Tasks é calculado.
+	 * @param Recebe o ViewMode, que define a projeção retornada.
 	 * @return Retorna um PaginationResponseDTO que contém uma lista de Tasks paginadas.
 	 */
-	public PaginationResponseDTO getAllTasksByCategoria(Pageable pageable, String categoria){
-		Page<Task> tasks = taskRepository.findByCategoriaContainingIgnoreCase(pageable, categoria);
-	    return new PaginationResponseDTO(tasks);
+	@Transactional(readOnly = true)
+	public PaginationResponseDTO<? extends TaskSummaryView> getAllTasksByCategoria(Pageable pageable, String categoria, CountMode countMode, ViewMode viewMode){
+		if(countMode == CountMode.EXACT) {
+			Page<? extends TaskSummaryView> tasks = categoriaNgramIndex.search(pageable, categoria, viewMode);
+			return new PaginationResponseDTO<>(tasks);
+		}
+		
+		Slice<? extends TaskSummaryView> tasks = categoriaNgramIndex.searchSlice(pageable, categoria, viewMode);
+		if(countMode == CountMode.APPROXIMATE) {
+			return new PaginationResponseDTO<>(tasks, taskCounter.approximateByCategoria(categoria, () -> categoriaNgramIndex.count(categoria)));
+		}
+	    return new PaginationResponseDTO<>(tasks);
+	}
+	
+	/**
+	 * Retorna uma lista paginada de Tasks que correspondem a categoria pesquisada, contendo somente os
+	 * campos solicitados.
+	 * 
+	 * @param Recebe um pageable, objeto que contém informações de paginação e ordenação.
+	 * @param Recebe a Categoria no formato String.
+	 * @param Recebe o CountMode, que define como o total de Tasks é calculado.
+	 * @param Recebe os campos que devem ser selecionados.
+	 * @return Retorna um PaginationResponseDTO com um Map por Task.
+	 */
+	@Transactional(readOnly = true)
+	public PaginationResponseDTO<Map<String, Object>> getAllTaskFieldsByCategoria(Pageable pageable, String categoria, CountMode countMode, Set<TaskField> fields){
+		Slice<Map<String, Object>> tasks = categoriaNgramIndex.searchFields(pageable, categoria, fields);
+		
+		return switch (countMode) {
+			case EXACT -> new PaginationResponseDTO<>(PageableExecutionUtils.getPage(tasks.getContent(), pageable, () -> categoriaNgramIndex.count(categoria)));
+			case NONE -> new PaginationResponseDTO<>(tasks);
+			case APPROXIMATE -> new PaginationResponseDTO<>(tasks, taskCounter.approximateByCategoria(categoria, () -> categoriaNgramIndex.count(categoria)));
+		};
 	}
 	
 	/**
@@ -90,29 +395,83 @@ public class TaskService {
 	 * @return Retorna um TaskResponseDTO contendo os dados da Task criada.
 	 * @throws Retorna MethodArgumentNotValidException caso os dados da entidade Task sejam inválidos.
 	 */
+	@Transactional
 	public TaskResponseDTO createTask(TaskRequestDTO taskRequestDTO) {
-		Task task = modelMapper.map(taskRequestDTO, Task.class);
+		Task task = taskMapper.toEntity(taskRequestDTO);
 		Task taskCreated = taskRepository.save(task);
-		return modelMapper.map(taskCreated, TaskResponseDTO.class);
+		categoriaNgramIndex.index(taskCreated);
+		return taskMapper.toResponseDTO(taskCreated);
+	}
+	
+	/**
+	 * Cadastra várias Tasks em uma única transação.
+	 * 
+	 * <p>Cada item é validado individualmente: os itens inválidos são rejeitados sem impedir o cadastro
+	 * dos demais. Os itens válidos são persistidos juntos e enviados ao banco em lotes JDBC, cujo tamanho é
+	 * definido pela propriedade 'hibernate.jdbc.batch_size'.</p>
+	 * 
+	 * @param Recebe a lista de TaskRequestDTO com os dados das Tasks.
+	 * @return Retorna um BatchTaskResponseDTO com o resultado de cada item, na ordem enviada.
+	 * @throws Retorna ValidationException caso a lista esteja vazia ou exceda o tamanho máximo permitido.
+	 */
+	@Transactional
+	public BatchTaskResponseDTO createTasks(List<TaskRequestDTO> taskRequestDTOs) {
+		if(taskRequestDTOs == null || taskRequestDTOs.isEmpty()) {
+			throw new ValidationException("The batch must contain at least one task.");
+		}
+		if(taskRequestDTOs.size() > maxBatchSize) {
+			throw new ValidationException("The batch must contain at most " + maxBatchSize + " tasks.");
+		}
+		
+		List<BatchTaskResultDTO> results = new ArrayList<>(taskRequestDTOs.size());
+		List<Task> tasks = new ArrayList<>(taskRequestDTOs.size());
+		List<Integer> indexes = new ArrayList<>(taskRequestDTOs.size());
+		
+		for(int index = 0; index < taskRequestDTOs.size(); index++) {
+			TaskRequestDTO taskRequestDTO = taskRequestDTOs.get(index);
+			Map<String, String> fieldErrors = taskRequestValidator.validate(taskRequestDTO);
+			
+			if(fieldErrors.isEmpty()) {
+				tasks.add(taskMapper.toEntity(taskRequestDTO));
+				indexes.add(index);
+				results.add(null);
+			} else {
+				results.add(BatchTaskResultDTO.rejected(index, fieldErrors));
+			}
+		}
+		
+		List<Task> tasksCreated = taskRepository.saveAll(tasks);
+		categoriaNgramIndex.index(tasksCreated);
+		for(int i = 0; i < tasksCreated.size(); i++) {
+			int index = indexes.get(i);
+			results.set(index, BatchTaskResultDTO.created(index, taskMapper.toResponseDTO(tasksCreated.get(i))));
+		}
+		
+		return new BatchTaskResponseDTO(results);
 	}
 	
 	/**
 	 * Atualiza o status da Task.
 	 * 
+	 * <p>A conclusão é feita por um UPDATE condicional ('WHERE concluida = false'), o que elimina a janela
+	 * de concorrência entre a leitura e a escrita. Quando nenhum registro é afetado, uma consulta de
+	 * existência decide entre 404 e InvalidTaskStateException.</p>
+	 * 
 	 * @param Recebe o ID da Task no formato Long.
 	 * @return Retorna um TaskResponseDTO com os detalhes da Task atualizada.
 	 * @throws Retorna ResourceNotFoundException caso a Task não seja encontrada.
 	 * @throws Retorna InvalidTaskStateException se a tarefa já estiver concluída
 	 */
+	@Transactional
 	public TaskResponseDTO completedTask(Long id){
-		Task task = taskRepository.findById(id)
-				.orElseThrow(() -> new ResourceNotFoundException("Task not found by Id."));
-		
-		invalidTaskState(task);
-		task.setConcluida(true);
+		taskJsonCache.invalidate(id);
+		if(taskRepository.completeIfPending(id) == 0) {
+			throw writeRejected(id);
+		}
 		
-		Task taskSaved = taskRepository.save(task);
-		return modelMapper.map(taskSaved, TaskResponseDTO.class);
+		Task taskSaved = taskRepository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Task not found by Id."));
+		return taskMapper.toResponseDTO(taskSaved);
 	}
 	
 	/**
@@ -120,61 +479,121 @@ public class TaskService {
 	 * 
 	 * @param Recebe o ID da Task no formato Long.
 	 * @param Recebe um TaskRequestDTO com os dados a serem atualizados.
+	 * @param Recebe a versão esperada da Task (cabeçalho 'If-Match'), ou nulo para não verificá-la.
 	 * @return Retorna um TaskResponseDTO contendo os detalhes da Task atualizada.
 	 * @throws Retorna MethodArgumentNotValidException caso os dados da entidade Task sejam inválidos.
 	 * @throws Retorna ResourceNotFoundException caso a Task não seja encontrada.
 	 * @throws Retorna InvalidTaskStateException se a tarefa já estiver concluída
+	 * @throws Retorna PreconditionFailedException caso a versão esperada não seja a versão atual.
 	 */
-	public TaskResponseDTO putTask(Long id, TaskRequestDTO taskRequestDTO) {
+	@Transactional
+	public TaskResponseDTO putTask(Long id, TaskRequestDTO taskRequestDTO, Long expectedVersion) {
+		taskJsonCache.invalidate(id);
 		Task task = taskRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Task not found by Id."));
 		
 		invalidTaskState(task);
-		modelMapper.map(taskRequestDTO, task);
-		Task updatedTask = taskRepository.save(task);
-		return modelMapper.map(updatedTask, TaskResponseDTO.class);
+		checkVersion(task, expectedVersion);
+		taskMapper.updateEntity(taskRequestDTO, task);
+		Task updatedTask = taskRepository.saveAndFlush(task);
+		categoriaNgramIndex.index(updatedTask);
+		return taskMapper.toResponseDTO(updatedTask);
 	}
 	
 	/**
 	 * Atualiza parcialmente os dados de uma tarefa com base nos dados fornecidos.
 	 * 
+	 * <p>A Task não é carregada antes da alteração: um único UPDATE condicional altera somente as colunas
+	 * presentes no DTO, desde que a Task não esteja concluída e, quando informada, que a versão seja a
+	 * esperada. Somente quando nenhum registro é afetado a Task é consultada para identificar o motivo.</p>
+	 * 
 	 * @param Recebe o ID da Task no formato Long.
 	 * @param Recebe um TaskRequestDTO com os dados a serem atualizados.
+	 * @param Recebe a versão esperada da Task (cabeçalho 'If-Match'), ou nulo para não verificá-la.
 	 * @return Retorna um TaskResponseDTO contendo os detalhes da Task atualizada.
-	 * @throws Retorna MethodArgumentNotValidException caso os dados da entidade Task sejam inválidos.
+	 * @throws Retorna ConstraintViolationException caso os novos valores sejam inválidos.
 	 * @throws Retorna ResourceNotFoundException caso a Task não seja encontrada.
 	 * @throws Retorna InvalidTaskStateException se a tarefa já estiver concluída
+	 * @throws Retorna PreconditionFailedException caso a versão esperada não seja a versão atual.
 	 */
-	public TaskResponseDTO patchTask(Long id, TaskPatchDTO taskPatchDTO) {
-		Task task = taskRepository.findById(id)
-				.orElseThrow(() -> new ResourceNotFoundException("Task not found by Id."));
+	@Transactional
+	public TaskResponseDTO patchTask(Long id, TaskPatchDTO taskPatchDTO, Long expectedVersion) {
+		taskJsonCache.invalidate(id);
+		Map<TaskField, Object> changes = new EnumMap<>(TaskField.class);
+		taskPatchDTO.getTitulo().ifPresent(titulo -> changes.put(TaskField.TITULO, titulo));
+		taskPatchDTO.getPrioridade().ifPresent(prioridade -> changes.put(TaskField.PRIORIDADE, prioridade));
+		taskPatchDTO.getDescricao().ifPresent(descricao -> changes.put(TaskField.DESCRICAO, descricao));
+		taskPatchDTO.getDataLimite().ifPresent(dataLimite -> changes.put(TaskField.DATA_LIMITE, dataLimite));
+		taskPatchDTO.getConcluida().ifPresent(concluida -> changes.put(TaskField.CONCLUIDA, concluida));
+		taskPatchDTO.getCategoria().ifPresent(categoria -> changes.put(TaskField.CATEGORIA, categoria));
 		
-		invalidTaskState(task);
-		taskPatchDTO.getTitulo().ifPresent(task::setTitulo);
-		taskPatchDTO.getPrioridade().ifPresent(task::setPrioridade);
-		taskPatchDTO.getDescricao().ifPresent(task::setDescricao);
-		taskPatchDTO.getDataLimite().ifPresent(task::setDataLimite);
-		taskPatchDTO.getConcluida().ifPresent(task::setConcluida);
-		taskPatchDTO.getCategoria().ifPresent(task::setCategoria);
-
-		Task updatedTask = taskRepository.save(task);
-		return modelMapper.map(updatedTask, TaskResponseDTO.class);
+		Set<ConstraintViolation<Task>> violations = taskRequestValidator.validateChanges(changes);
+		if(!violations.isEmpty()) {
+			throw new ConstraintViolationException(violations);
+		}
+		
+		if(changes.isEmpty() || taskRepository.patchIfPending(id, changes, expectedVersion) == 0) {
+			Task task = taskRepository.findById(id)
+					.orElseThrow(() -> new ResourceNotFoundException("Task not found by Id."));
+			invalidTaskState(task);
+			checkVersion(task, expectedVersion);
+			return taskMapper.toResponseDTO(task);
+		}
+		
+		taskPatchDTO.getCategoria().ifPresent(categoria -> categoriaNgramIndex.index(id, categoria));
+		Task updatedTask = taskRepository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Task not found by Id."));
+		return taskMapper.toResponseDTO(updatedTask);
 	}
 	
 	/**
 	 * Deleta a Task com base no ID fornecido.
 	 * 
+	 * <p>A exclusão é feita por um DELETE condicional ('WHERE concluida = false'). Somente quando nenhum
+	 * registro é afetado é feita uma consulta de existência para decidir entre 404 e InvalidTaskStateException.</p>
+	 * 
 	 * @param Recebe o ID da Task no formato Long.
 	 * @return Retorna um ResponseEntity vazio, avisando que a execução ocorreu com sucesso.
 	 * @throws Retorna ResourceNotFoundException caso a Task não seja encontrada.
 	 * @throws Retorna InvalidTaskStateException se a tarefa já estiver concluída.
 	 */
+	@Transactional
 	public void deleteTask(Long id) {
-		Task task = taskRepository.findById(id)
-				.orElseThrow(() -> new ResourceNotFoundException("Task not found by Id."));
-		
-		invalidTaskState(task);
-		taskRepository.deleteById(id);
+		taskJsonCache.invalidate(id);
+		if(taskRepository.deleteIfPending(id) == 0) {
+			throw writeRejected(id);
+		}
+		categoriaNgramIndex.remove(id);
+	}
+	
+	/**
+	 * Define a exceção de uma escrita condicional que não afetou nenhum registro.
+	 * 
+	 * @param id ID da Task que não foi alterada.
+	 * @return Retorna InvalidTaskStateException caso a Task exista (logo, está concluída) ou
+	 * ResourceNotFoundException caso contrário.
+	 */
+	private RuntimeException writeRejected(Long id) {
+		if(taskRepository.existsById(id)) {
+			return new InvalidTaskStateException("It is not possible to change or delete a completed task.");
+		}
+		return new ResourceNotFoundException("Task not found by Id.");
+	}
+	
+	/**
+	 * Valida se a versão esperada pelo cliente é a versão atual da Task.
+	 * 
+	 * <p>Conflitos entre a leitura e a gravação são detectados pelo próprio Hibernate, que inclui a versão
+	 * no 'WHERE' do UPDATE e lança OptimisticLockingFailureException caso nenhum registro seja afetado.</p>
+	 * 
+	 * @param task tarefa a ser verificada.
+	 * @param expectedVersion versão informada no cabeçalho 'If-Match', ou nulo.
+	 * @throws PreconditionFailedException se as versões forem diferentes.
+	 */
+	private void checkVersion(Task task, Long expectedVersion) {
+		if(expectedVersion != null && !expectedVersion.equals(task.getVersao())) {
+			throw new PreconditionFailedException("The task was modified by another request. Reload it and try again.");
+		}
 	}
 	
 	/**
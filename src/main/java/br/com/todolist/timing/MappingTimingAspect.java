@@ -0,0 +1,30 @@
+package br.com.todolist.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import br.com.todolist.timing.ServerTiming.Metric;
+
+/**
+ * Aspecto que soma ao ServerTiming o tempo das conversões realizadas pelo TaskMapper.
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Aspect
+@Component
+public class MappingTimingAspect {
+	
+	@Around("execution(* br.com.todolist.mapper.TaskMapper.*(..))")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		long start = ServerTiming.start();
+		try {
+			return joinPoint.proceed();
+		} finally {
+			ServerTiming.stop(Metric.MAPPING, start);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package br.com.todolist.timing;
+
+import java.util.Locale;
+
+/**
+ * Acumulador por requisição dos tempos publicados no cabeçalho 'Server-Timing'.
+ * 
+ * <p>O acumulador é ativado pelo ServerTimingFilter somente nas requisições selecionadas (cabeçalho de
+ * depuração ou amostragem) e fica associado à thread que processa a requisição. Nas demais requisições,
+ * {@link #start()} retorna zero sem ler o relógio e {@link #stop(Metric, long)} não faz nada, mantendo o
+ * custo das medições próximo de zero.</p>
+ * 
+ * <p>Somente o trabalho feito na thread da requisição é contabilizado; cargas executadas em outras threads
+ * (por exemplo, a escrita da importação) não aparecem no cabeçalho.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public final class ServerTiming {
+	
+	/**
+	 * Métricas publicadas no cabeçalho, na ordem em que aparecem.
+	 */
+	public enum Metric {
+		JWT("jwt", "JWT decode"),
+		USER("user", "User resolution"),
+		DB("db", "Database"),
+		MAPPING("map", "Mapping"),
+		JSON("json", "JSON serialization");
+		
+		private final String name;
+		private final String description;
+		
+		Metric(String name, String description) {
+			this.name = name;
+			this.description = description;
+		}
+	}
+	
+	private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+	
+	private final long startNanos = System.nanoTime();
+	private final long[] nanos = new long[Metric.values().length];
+	
+	private ServerTiming() {
+	}
+	
+	/**
+	 * Ativa o acumulador na thread atual.
+	 * 
+	 * @return Retorna o ServerTiming ativado.
+	 */
+	static ServerTiming begin() {
+		ServerTiming serverTiming = new ServerTiming();
+		CURRENT.set(serverTiming);
+		return serverTiming;
+	}
+	
+	/**
+	 * Desativa o acumulador da thread atual.
+	 */
+	static void end() {
+		CURRENT.remove();
+	}
+	
+	/**
+	 * Inicia uma medição.
+	 * 
+	 * @return Retorna o instante atual em nanossegundos, ou zero caso o acumulador não esteja ativo.
+	 */
+	public static long start() {
+		return CURRENT.get() == null ? 0L : System.nanoTime();
+	}
+	
+	/**
+	 * Soma à métrica o tempo decorrido desde o início da medição.
+	 * 
+	 * @param Recebe a métrica medida.
+	 * @param Recebe o valor retornado por {@link #start()}.
+	 */
+	public static void stop(Metric metric, long start) {
+		ServerTiming serverTiming = CURRENT.get();
+		if(serverTiming != null && start != 0L) {
+			serverTiming.nanos[metric.ordinal()] += System.nanoTime() - start;
+		}
+	}
+	
+	/**
+	 * Monta o valor do cabeçalho 'Server-Timing' com as métricas medidas e o tempo total.
+	 * 
+	 * @return Retorna o valor do cabeçalho.
+	 */
+	String toHeaderValue() {
+		StringBuilder header = new StringBuilder();
+		for(Metric metric : Metric.values()) {
+			long value = nanos[metric.ordinal()];
+			if(value > 0) {
+				append(header, metric.name, value).append(";desc=\"").append(metric.description).append('"').append(", ");
+			}
+		}
+		return append(header, "total", System.nanoTime() - startNanos).toString();
+	}
+	
+	private static StringBuilder append(StringBuilder header, String name, long value) {
+		return header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", value / 1_000_000.0));
+	}
+}
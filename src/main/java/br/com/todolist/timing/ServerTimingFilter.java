@@ -0,0 +1,98 @@
+package br.com.todolist.timing;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filtro que publica o cabeçalho 'Server-Timing' com o detalhamento do tempo da requisição.
+ * 
+ * <p>O ServerTiming é ativado somente quando a requisição é sorteada pela amostragem ('server-timing.sample-rate',
+ * padrão 0) ou traz o cabeçalho de depuração ('server-timing.header', padrão 'X-Debug-Timing') com o segredo
+ * compartilhado ('server-timing.secret'). Como o filtro executa antes da autenticação, o segredo impede que
+ * qualquer cliente obtenha o detalhamento dos tempos e force o armazenamento da resposta em memória. Sem
+ * segredo configurado, o cabeçalho é ignorado. As demais requisições seguem sem nenhum custo além da
+ * verificação.</p>
+ * 
+ * <p>Como o cabeçalho precisa ser enviado antes do corpo, a resposta das requisições ativadas é mantida em um
+ * ContentCachingResponseWrapper até o fim do processamento, e é copiada para a resposta real mesmo que a cadeia
+ * lance uma exceção após escrevê-la. A exportação em fluxo contínuo é excluída, para não ser acumulada em
+ * memória.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+	
+	static final String SERVER_TIMING = "Server-Timing";
+	
+	private final boolean enabled;
+	private final String debugHeader;
+	private final byte[] secret;
+	private final double sampleRate;
+	
+	public ServerTimingFilter(@Value("${server-timing.enabled:true}") boolean enabled,
+			@Value("${server-timing.header:X-Debug-Timing}") String debugHeader,
+			@Value("${server-timing.secret:}") String secret,
+			@Value("${server-timing.sample-rate:0}") double sampleRate) {
+		this.enabled = enabled;
+		this.debugHeader = debugHeader;
+		this.secret = secret.getBytes(StandardCharsets.UTF_8);
+		this.sampleRate = sampleRate;
+	}
+	
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled || request.getRequestURI().endsWith("/api/tasks/export");
+	}
+	
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		if(!isSelected(request)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		
+		ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+		ServerTiming serverTiming = ServerTiming.begin();
+		try {
+			filterChain.doFilter(request, responseWrapper);
+		} finally {
+			ServerTiming.end();
+			responseWrapper.setHeader(SERVER_TIMING, serverTiming.toHeaderValue());
+			responseWrapper.copyBodyToResponse();
+		}
+	}
+	
+	private boolean isSelected(HttpServletRequest request) {
+		return hasDebugSecret(request) || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+	}
+	
+	/**
+	 * Verifica se o cabeçalho de depuração contém o segredo configurado, com comparação em tempo constante.
+	 */
+	private boolean hasDebugSecret(HttpServletRequest request) {
+		String debug = request.getHeader(debugHeader);
+		if(secret.length == 0 || debug == null) {
+			return false;
+		}
+		return MessageDigest.isEqual(secret, debug.getBytes(StandardCharsets.UTF_8));
+	}
+}
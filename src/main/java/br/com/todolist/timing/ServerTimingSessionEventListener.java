@@ -0,0 +1,54 @@
+package br.com.todolist.timing;
+
+import org.hibernate.SessionEventListener;
+
+import br.com.todolist.timing.ServerTiming.Metric;
+
+/**
+ * Listener de sessão do Hibernate que soma ao ServerTiming o tempo gasto no banco de dados: obtenção da
+ * conexão e execução das instruções e lotes JDBC.
+ * 
+ * <p>Registrado pela propriedade 'hibernate.session.events.auto', que cria uma instância por sessão.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class ServerTimingSessionEventListener implements SessionEventListener {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private long connectionStart;
+	private long statementStart;
+	private long batchStart;
+	
+	@Override
+	public void jdbcConnectionAcquisitionStart() {
+		connectionStart = ServerTiming.start();
+	}
+	
+	@Override
+	public void jdbcConnectionAcquisitionEnd() {
+		ServerTiming.stop(Metric.DB, connectionStart);
+	}
+	
+	@Override
+	public void jdbcExecuteStatementStart() {
+		statementStart = ServerTiming.start();
+	}
+	
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		ServerTiming.stop(Metric.DB, statementStart);
+	}
+	
+	@Override
+	public void jdbcExecuteBatchStart() {
+		batchStart = ServerTiming.start();
+	}
+	
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		ServerTiming.stop(Metric.DB, batchStart);
+	}
+}
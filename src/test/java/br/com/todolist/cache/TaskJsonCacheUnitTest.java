@@ -0,0 +1,157 @@
+package br.com.todolist.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+public class TaskJsonCacheUnitTest {
+	
+	@Test
+	@DisplayName("JSON armazenado deve ser escrito com os mesmos bytes.")
+	void deveEscreverOMesmoJson_quandoAEntradaEstiverEmCache() throws IOException {
+		TaskJsonCache taskJsonCache = new TaskJsonCache(DataSize.ofMegabytes(1));
+		byte[] json = "{\"id\":1,\"titulo\":\"Estudar\"}".getBytes(StandardCharsets.UTF_8);
+		
+		taskJsonCache.put(1L, 2L, false, json);
+		TaskJsonCache.Entry entry = taskJsonCache.get(1L);
+		
+		assertEquals(2L, entry.getVersao());
+		assertEquals(json.length, entry.getSize());
+		assertArrayEquals(json, write(entry));
+	}
+	
+	@Test
+	@DisplayName("Entradas devem compartilhar o mesmo 'slab' ao invés de um buffer direto cada.")
+	void deveReservarUmUnicoSlab_quandoVariasEntradasForemArmazenadas() {
+		TaskJsonCache taskJsonCache = new TaskJsonCache(DataSize.ofMegabytes(64));
+		
+		for(long id = 1; id <= 100; id++) {
+			taskJsonCache.put(id, 0L, false, new byte[200]);
+		}
+		
+		assertEquals(JsonSlabAllocator.SLAB_SIZE, taskJsonCache.reservedBytes());
+	}
+	
+	@Test
+	@DisplayName("Bloco retido não deve ser reutilizado até a liberação.")
+	void naoDeveReutilizarBloco_quandoAEntradaRemovidaEstiverRetida() throws IOException {
+		TaskJsonCache taskJsonCache = new TaskJsonCache(DataSize.ofKilobytes(1));
+		byte[] first = filled('a');
+		byte[] second = filled('b');
+		
+		TaskJsonCache.Entry entry = taskJsonCache.put(1L, 0L, false, first);
+		assertTrue(entry.retain());
+		taskJsonCache.invalidate(1L);
+		
+		for(long id = 2; id <= 5; id++) {
+			taskJsonCache.put(id, 0L, false, second);
+		}
+		assertArrayEquals(first, write(entry));
+		
+		entry.release();
+		assertFalse(entry.retain());
+	}
+	
+	@Test
+	@DisplayName("Bloco liberado deve ser reutilizado pela próxima entrada.")
+	void deveReutilizarBloco_quandoAEntradaForRemovida() {
+		TaskJsonCache taskJsonCache = new TaskJsonCache(DataSize.ofKilobytes(1));
+		for(long id = 1; id <= 4; id++) {
+			taskJsonCache.put(id, 0L, false, filled('a'));
+		}
+		
+		taskJsonCache.invalidate(1L);
+		taskJsonCache.put(5L, 0L, false, filled('b'));
+		
+		assertEquals(1024, taskJsonCache.reservedBytes());
+		assertTrue(taskJsonCache.get(5L).retain());
+	}
+	
+	@Test
+	@DisplayName("Entrada nova deve remover a mais fria quando não houver bloco livre.")
+	void deveRemoverAEntradaMaisFria_quandoNaoHouverBlocoLivre() {
+		TaskJsonCache taskJsonCache = new TaskJsonCache(DataSize.ofKilobytes(1));
+		for(long id = 1; id <= 4; id++) {
+			taskJsonCache.put(id, 0L, false, filled('a'));
+		}
+		
+		taskJsonCache.put(5L, 0L, false, filled('b'));
+		
+		assertNotNull(taskJsonCache.get(5L));
+		assertEquals(4, taskJsonCache.nativeCache().estimatedSize());
+		assertEquals(1024, taskJsonCache.reservedBytes());
+	}
+	
+	@Test
+	@DisplayName("Outro tamanho de bloco deve ser armazenado após um tamanho ocupar toda a capacidade.")
+	void deveArmazenarOutroTamanho_quandoUmTamanhoOcuparTodaACapacidade() throws IOException {
+		TaskJsonCache taskJsonCache = new TaskJsonCache(DataSize.ofMegabytes(1));
+		long chunks = JsonSlabAllocator.SLAB_SIZE / JsonSlabAllocator.MIN_CHUNK_SIZE;
+		for(long id = 1; id <= chunks; id++) {
+			taskJsonCache.put(id, 0L, false, filled('a'));
+		}
+		byte[] json = new byte[1000];
+		Arrays.fill(json, (byte) 'b');
+		
+		taskJsonCache.put(chunks + 1, 0L, false, json);
+		
+		TaskJsonCache.Entry entry = taskJsonCache.get(chunks + 1);
+		assertNotNull(entry);
+		assertArrayEquals(json, write(entry));
+		assertEquals(JsonSlabAllocator.SLAB_SIZE, taskJsonCache.reservedBytes());
+		
+		taskJsonCache.put(chunks + 2, 0L, false, filled('c'));
+		assertNotNull(taskJsonCache.get(chunks + 2));
+	}
+	
+	@Test
+	@DisplayName("JSON maior que o maior bloco não deve ser armazenado.")
+	void naoDeveArmazenar_quandoOJsonExcederOMaiorBloco() throws IOException {
+		TaskJsonCache taskJsonCache = new TaskJsonCache(DataSize.ofMegabytes(1));
+		byte[] json = new byte[JsonSlabAllocator.MAX_CHUNK_SIZE + 1];
+		
+		TaskJsonCache.Entry entry = taskJsonCache.put(1L, 0L, false, json);
+		
+		assertNull(taskJsonCache.get(1L));
+		assertTrue(entry.retain());
+		assertArrayEquals(json, write(entry));
+		assertEquals(0, taskJsonCache.reservedBytes());
+	}
+	
+	@Test
+	@DisplayName("Nova versão deve substituir a entrada anterior.")
+	void deveSubstituirEntrada_quandoUmaNovaVersaoForArmazenada() {
+		TaskJsonCache taskJsonCache = new TaskJsonCache(DataSize.ofMegabytes(1));
+		TaskJsonCache.Entry previous = taskJsonCache.put(1L, 0L, false, filled('a'));
+		
+		TaskJsonCache.Entry current = taskJsonCache.put(1L, 1L, false, filled('b'));
+		
+		assertSame(current, taskJsonCache.get(1L));
+		assertFalse(previous.retain());
+	}
+	
+	private static byte[] filled(char value) {
+		byte[] bytes = new byte[200];
+		Arrays.fill(bytes, (byte) value);
+		return bytes;
+	}
+	
+	private static byte[] write(TaskJsonCache.Entry entry) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		entry.writeTo(outputStream);
+		return outputStream.toByteArray();
+	}
+}
@@ -0,0 +1,32 @@
+package br.com.todolist.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.todolist.model.Role;
+import br.com.todolist.model.User;
+
+public class UserCacheUnitTest {
+	
+	@Test
+	@DisplayName("Usuário em cache não deve manter o hash da senha.")
+	void deveArmazenarOUsuarioSemASenha_quandoCarregarDoBanco() {
+		UserCache userCache = new UserCache(10, Duration.ofMinutes(5));
+		User user = new User(1L, "cache-user", List.of(Role.USER));
+		user.setPassword("$2a$10$hash");
+		
+		User cached = userCache.get(1L, id -> Optional.of(user)).orElseThrow();
+		
+		assertNull(cached.getPassword());
+		assertEquals("cache-user", cached.getUsername());
+		assertEquals(List.of(Role.USER), cached.getRoles());
+		assertEquals("$2a$10$hash", user.getPassword());
+	}
+}
@@ -0,0 +1,49 @@
+package br.com.todolist.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import br.com.todolist.model.Role;
+import br.com.todolist.repository.UserRepository;
+import br.com.todolist.support.TestUsers;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class AuthenticationControllerFunctionalTest {
+	
+	@Autowired
+	private MockMvc mockMvc;
+	
+	@Autowired
+	private UserRepository userRepository;
+	
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	
+	@Test
+	@DisplayName("Token deve ser rejeitado após o logout.")
+	void deveRejeitarToken_quandoOUsuarioFizerLogout() throws Exception {
+		String authorization = TestUsers.bearer(mockMvc, userRepository, passwordEncoder, "logout-user", Role.USER);
+		
+		mockMvc.perform(get("/api/tasks").header(HttpHeaders.AUTHORIZATION, authorization))
+				.andExpect(status().isOk());
+		
+		mockMvc.perform(post("/api/auth/logout").header(HttpHeaders.AUTHORIZATION, authorization))
+				.andExpect(status().isNoContent());
+		
+		mockMvc.perform(get("/api/tasks").header(HttpHeaders.AUTHORIZATION, authorization))
+				.andExpect(status().isUnauthorized());
+	}
+}
@@ -0,0 +1,251 @@
+package br.com.todolist.controller;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import br.com.todolist.dto.model.TaskRequestDTO;
+import br.com.todolist.model.Role;
+import br.com.todolist.model.User;
+import br.com.todolist.model.enumeration.Prioridade;
+import br.com.todolist.repository.UserRepository;
+import br.com.todolist.service.TaskService;
+import br.com.todolist.support.QueryCount;
+import br.com.todolist.support.QueryCountingConfiguration;
+import br.com.todolist.support.SqlStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Orçamento de instruções SQL por requisição dos 'endpoints' do TaskController e do AuthenticationController.
+ * 
+ * <p>Cada teste parte do cache de segundo nível vazio e de uma Task recém-criada, portanto ainda fora do
+ * cache de JSON. Um aumento na quantidade de instruções (N+1, cargas redundantes) falha o teste, listando as
+ * instruções executadas.</p>
+ * 
+ * <p>A busca do usuário pelo ID natural é medida diretamente no repositório, sem o UserCache da autenticação,
+ * para confirmar que o cache de segundo nível evita a consulta.</p>
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:query-budget;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryCountingConfiguration.class)
+public class QueryBudgetFunctionalTest {
+	
+	private static final String USERNAME = "query-budget";
+	private static final String PASSWORD = "query-budget";
+	
+	@Autowired
+	private MockMvc mockMvc;
+	
+	@Autowired
+	private SqlStatementCounter sqlStatementCounter;
+	
+	@Autowired
+	private TaskService taskService;
+	
+	@Autowired
+	private UserRepository userRepository;
+	
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	
+	private String authorization;
+	private Long taskId;
+	
+	@BeforeEach
+	void setUp() throws Exception {
+		if(userRepository.findByUsername(USERNAME).isEmpty()) {
+			User user = new User(null, USERNAME, List.of(Role.USER));
+			user.setPassword(passwordEncoder.encode(PASSWORD));
+			userRepository.save(user);
+		}
+		authorization = "Bearer " + mockMvc.perform(authenticate()).andReturn().getResponse().getContentAsString();
+		
+		taskId = taskService.createTask(new TaskRequestDTO("Estudar Spring Boot", "Revisar conceitos de Spring Boot",
+				Prioridade.MEDIA, LocalDate.now().plusDays(10), false, "Faculdade")).getId();
+		entityManagerFactory.getCache().evictAll();
+	}
+	
+	@Test
+	@DisplayName("Autenticação consulta o usuário uma única vez e não consulta com o cache populado.")
+	void deveConsultarOUsuarioUmaUnicaVez_quandoAutenticar() throws Exception {
+		QueryCount cold = sqlStatementCounter.count(() -> mockMvc.perform(authenticate()).andExpect(status().isOk()));
+		cold.assertBudget(1, 0, 0, 0);
+		
+		QueryCount warm = sqlStatementCounter.count(() -> mockMvc.perform(authenticate()).andExpect(status().isOk()));
+		warm.assertBudget(0, 0, 0, 0);
+	}
+	
+	@Test
+	@DisplayName("Busca do usuário pelo ID natural não consulta o banco com o cache de segundo nível populado.")
+	void naoDeveConsultarOBanco_quandoOUsuarioEstiverNoCacheDeSegundoNivel() throws Exception {
+		QueryCount cold = sqlStatementCounter.count(() -> userRepository.findByUsername(USERNAME).orElseThrow());
+		cold.assertBudget(1, 0, 0, 0);
+		
+		QueryCount warm = sqlStatementCounter.count(() -> userRepository.findByUsername(USERNAME).orElseThrow());
+		warm.assertBudget(0, 0, 0, 0);
+		assertTrue(warm.secondLevelCacheHits() > 0, warm::toString);
+	}
+	
+	@Test
+	@DisplayName("Busca pelo ID consulta a versão e a Task, e somente a versão com o JSON em cache.")
+	void deveConsultarSomenteAVersao_quandoOJsonEstiverEmCache() throws Exception {
+		QueryCount cold = sqlStatementCounter.count(() -> mockMvc.perform(get("/api/tasks/" + taskId)
+				.header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isOk()));
+		cold.assertBudget(2, 0, 0, 0);
+		
+		QueryCount warm = sqlStatementCounter.count(() -> mockMvc.perform(get("/api/tasks/" + taskId)
+				.header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isOk()));
+		warm.assertBudget(1, 0, 0, 0);
+	}
+	
+	@Test
+	@DisplayName("Task concluída é respondida pelo cache de JSON sem acesso ao banco.")
+	void naoDeveConsultarOBanco_quandoATaskConcluidaEstiverEmCache() throws Exception {
+		QueryCount complete = sqlStatementCounter.count(() -> mockMvc.perform(patch("/api/tasks/" + taskId + "/concluir")
+				.header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isOk()));
+		complete.assertBudget(1, 0, 1, 0);
+		
+		mockMvc.perform(get("/api/tasks/" + taskId).header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isOk());
+		QueryCount cached = sqlStatementCounter.count(() -> mockMvc.perform(get("/api/tasks/" + taskId)
+				.header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isOk()));
+		cached.assertBudget(0, 0, 0, 0);
+	}
+	
+	@Test
+	@DisplayName("Criação insere a Task e o seu índice de categoria sem consultas por trigrama.")
+	void deveInserirSemConsultasPorTrigrama_quandoCriarTask() throws Exception {
+		QueryCount create = sqlStatementCounter.count(() -> mockMvc.perform(post("/api/tasks")
+				.header(HttpHeaders.AUTHORIZATION, authorization)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(taskJson("Estudar JPA"))).andExpect(status().isCreated()));
+		create.assertBudget(0, 2, 0, 1);
+	}
+	
+	@Test
+	@DisplayName("Atualização parcial executa um único UPDATE e recarrega a Task.")
+	void deveExecutarUmUnicoUpdate_quandoAtualizarParcialmente() throws Exception {
+		QueryCount patch = sqlStatementCounter.count(() -> mockMvc.perform(patch("/api/tasks/" + taskId)
+				.header(HttpHeaders.AUTHORIZATION, authorization)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"titulo\": \"Estudar Hibernate\"}")).andExpect(status().isOk()));
+		patch.assertBudget(1, 0, 1, 0);
+	}
+	
+	@Test
+	@DisplayName("Substituição carrega a Task uma vez, executa um UPDATE e reindexa a categoria.")
+	void deveCarregarUmaUnicaVez_quandoSubstituirTask() throws Exception {
+		QueryCount put = sqlStatementCounter.count(() -> mockMvc.perform(put("/api/tasks/" + taskId)
+				.header(HttpHeaders.AUTHORIZATION, authorization)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(taskJson("Estudar Hibernate"))).andExpect(status().isOk()));
+		put.assertBudget(1, 1, 1, 1);
+	}
+	
+	@Test
+	@DisplayName("Criação em lote insere as Tasks e os seus índices em um lote JDBC cada.")
+	void deveInserirEmLotes_quandoCriarTasksEmLote() throws Exception {
+		String json = "[%s, %s]".formatted(taskJson("Estudar JPA"), taskJson("Estudar JDBC"));
+		
+		QueryCount batch = sqlStatementCounter.count(() -> mockMvc.perform(post("/api/tasks/batch")
+				.header(HttpHeaders.AUTHORIZATION, authorization)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(json)).andExpect(status().isOk()));
+		batch.assertBudget(0, 2, 0, 1);
+	}
+	
+	@Test
+	@DisplayName("Busca por vários IDs executa uma única consulta 'IN'.")
+	void deveExecutarUmaUnicaConsulta_quandoBuscarPorIds() throws Exception {
+		QueryCount lookup = sqlStatementCounter.count(() -> mockMvc.perform(get("/api/tasks")
+				.param("ids", taskId + "," + (taskId + 1000))
+				.header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isOk()));
+		lookup.assertBudget(1, 0, 0, 0);
+	}
+	
+	@Test
+	@DisplayName("Listagem sem contagem executa somente a consulta da página.")
+	void deveConsultarSomenteAPagina_quandoListarSemContagem() throws Exception {
+		QueryCount list = sqlStatementCounter.count(() -> mockMvc.perform(get("/api/tasks")
+				.param("count", "false")
+				.header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isOk()));
+		list.assertBudget(1, 0, 0, 0);
+	}
+	
+	@Test
+	@DisplayName("Listagem com contagem consulta a versão da coleção, a página e o total.")
+	void deveConsultarVersaoPaginaETotal_quandoListarComContagem() throws Exception {
+		QueryCount list = sqlStatementCounter.count(() -> mockMvc.perform(get("/api/tasks")
+				.param("size", "1")
+				.header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isOk()));
+		list.assertBudget(3, 0, 0, 0);
+	}
+	
+	@Test
+	@DisplayName("Busca por categoria sem contagem executa somente a consulta do índice de trigramas.")
+	void deveConsultarSomenteAPagina_quandoBuscarPorCategoriaSemContagem() throws Exception {
+		QueryCount search = sqlStatementCounter.count(() -> mockMvc.perform(get("/api/tasks/search")
+				.param("categoria", "facul")
+				.param("count", "false")
+				.header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isOk()));
+		search.assertBudget(1, 0, 0, 0);
+	}
+	
+	@Test
+	@DisplayName("Logout insere o token revogado sem consultá-lo antes.")
+	void deveInserirSomenteOTokenRevogado_quandoFizerLogout() throws Exception {
+		QueryCount logout = sqlStatementCounter.count(() -> mockMvc.perform(post("/api/auth/logout")
+				.header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isNoContent()));
+		logout.assertBudget(0, 1, 0, 0);
+	}
+	
+	@Test
+	@DisplayName("Exclusão remove a Task e o seu índice sem carregá-la.")
+	void naoDeveCarregarATask_quandoExcluir() throws Exception {
+		QueryCount delete = sqlStatementCounter.count(() -> mockMvc.perform(delete("/api/tasks/" + taskId)
+				.header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isNoContent()));
+		delete.assertBudget(0, 0, 0, 2);
+	}
+	
+	private static String taskJson(String titulo) {
+		return """
+					{
+					  "titulo": "%s",
+					  "descricao": "Revisar o cache de segundo nível",
+					  "dataLimite": "%s",
+					  "prioridade": "MEDIA",
+					  "categoria": "Faculdade"
+					}
+				""".formatted(titulo, LocalDate.now().plusDays(10));
+	}
+	
+	private RequestBuilder authenticate() {
+		return post("/api/auth/authenticate")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"username\": \"%s\", \"password\": \"%s\"}".formatted(USERNAME, PASSWORD));
+	}
+}
@@ -0,0 +1,106 @@
+package br.com.todolist.controller;
+
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.todolist.model.Role;
+import br.com.todolist.repository.TaskRepository;
+import br.com.todolist.repository.UserRepository;
+import br.com.todolist.support.TestUsers;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskBatchFunctionalTest {
+	
+	@Autowired
+	private MockMvc mockMvc;
+	
+	@Autowired
+	private ObjectMapper objectMapper;
+	
+	@Autowired
+	private TaskRepository taskRepository;
+	
+	@Autowired
+	private UserRepository userRepository;
+	
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	
+	private String authorization;
+	
+	@BeforeEach
+	void setUp() throws Exception {
+		authorization = TestUsers.bearer(mockMvc, userRepository, passwordEncoder, "batch-user", Role.USER);
+	}
+	
+	@Test
+	@DisplayName("Lote com itens válidos e inválidos deve criar os válidos e reportar os inválidos na ordem enviada.")
+	void deveCriarItensValidosERejeitarInvalidos_quandoOLoteForMisto() throws Exception {
+		LocalDate dataLimite = LocalDate.now().plusDays(10);
+		String json = """
+				[
+				  {"titulo": "Estudar JPA", "descricao": "Revisar o mapeamento", "prioridade": "ALTA", "dataLimite": "%s", "categoria": "Faculdade"},
+				  {"titulo": "", "descricao": "Sem título", "prioridade": "BAIXA", "dataLimite": "%s", "categoria": "Faculdade"},
+				  {"titulo": "Estudar JDBC", "descricao": "Revisar os lotes", "prioridade": "MEDIA", "dataLimite": "%s", "categoria": "Faculdade"}
+				]
+				""".formatted(dataLimite, dataLimite, dataLimite);
+		long before = taskRepository.count();
+		
+		String body = mockMvc.perform(post("/api/tasks/batch")
+				.header(HttpHeaders.AUTHORIZATION, authorization)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(json))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.created").value(2))
+				.andExpect(jsonPath("$.rejected").value(1))
+				.andExpect(jsonPath("$.results[0].index").value(0))
+				.andExpect(jsonPath("$.results[0].status").value("CREATED"))
+				.andExpect(jsonPath("$.results[0].task.id").value(notNullValue()))
+				.andExpect(jsonPath("$.results[1].index").value(1))
+				.andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+				.andExpect(jsonPath("$.results[1].task").doesNotExist())
+				.andExpect(jsonPath("$.results[1].fieldErrors", hasKey("titulo")))
+				.andExpect(jsonPath("$.results[2].status").value("CREATED"))
+				.andExpect(jsonPath("$.results[2].fieldErrors").value(nullValue()))
+				.andReturn().getResponse().getContentAsString();
+		
+		JsonNode results = objectMapper.readTree(body).get("results");
+		assertTrue(results.get(2).get("task").get("id").asLong() > results.get(0).get("task").get("id").asLong());
+		assertEquals(before + 2, taskRepository.count());
+	}
+	
+	@Test
+	@DisplayName("Lote vazio deve retornar 400.")
+	void deveRetornarBadRequest_quandoOLoteForVazio() throws Exception {
+		mockMvc.perform(post("/api/tasks/batch")
+				.header(HttpHeaders.AUTHORIZATION, authorization)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("[]"))
+				.andExpect(status().isBadRequest());
+	}
+}
@@ -119,4 +119,54 @@ public class TaskControllerFunctionalTest {
 				.andExpect(jsonPath("$.tasks").isArray())
 				.andExpect(jsonPath("$.tasks[0].categoria").value("Faculdade"));
 	}
+	
+	@Test
+	@DisplayName("Retornar uma lista paginada resumida, sem a descrição das Tasks.")
+	void deveRetornarUmaListaResumida_quandoViewSummaryForInformada() throws Exception {
+		mockMvc.perform(get("/api/tasks")
+					.param("page", "0")
+					.param("size", "2")
+					.param("view", "summary")
+		            .contentType("application/json"))
+				.andDo(print()) 
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.tasks[0].titulo").exists())
+				.andExpect(jsonPath("$.tasks[0].descricao").doesNotExist());
+	}
+	
+	@Test
+	@DisplayName("Retornar somente os campos solicitados pelo parâmetro fields.")
+	void deveRetornarSomenteOsCamposSolicitados_quandoFieldsForInformado() throws Exception {
+		mockMvc.perform(get("/api/tasks")
+					.param("page", "0")
+					.param("size", "2")
+					.param("fields", "id,titulo,dataLimite,concluida")
+		            .contentType("application/json"))
+				.andDo(print()) 
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.tasks[0].id").exists())
+				.andExpect(jsonPath("$.tasks[0].titulo").exists())
+				.andExpect(jsonPath("$.tasks[0].categoria").doesNotExist());
+	}
+	
+	@Test
+	@DisplayName("Rejeitar o parâmetro fields com um campo desconhecido.")
+	void deveRetornarBadRequest_quandoFieldsPossuirCampoDesconhecido() throws Exception {
+		mockMvc.perform(get("/api/tasks")
+					.param("fields", "id,senha")
+		            .contentType("application/json"))
+				.andDo(print()) 
+				.andExpect(status().isBadRequest());
+	}
+	
+	@Test
+	@DisplayName("Rejeitar a ordenação por um atributo fora dos campos da Task quando fields for informado.")
+	void deveRetornarBadRequest_quandoSortPossuirAtributoDesconhecido() throws Exception {
+		mockMvc.perform(get("/api/tasks")
+					.param("fields", "id,titulo")
+					.param("sort", "senha,asc")
+		            .contentType("application/json"))
+				.andDo(print()) 
+				.andExpect(status().isBadRequest());
+	}
 }
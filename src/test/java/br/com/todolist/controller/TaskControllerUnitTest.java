@@ -1,8 +1,18 @@
 package br.com.todolist.controller;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -12,11 +22,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import br.com.todolist.cache.TaskJsonCache;
 import br.com.todolist.dto.model.TaskRequestDTO;
 import br.com.todolist.dto.model.TaskResponseDTO;
+import br.com.todolist.dto.pagination.CountMode;
+import br.com.todolist.dto.pagination.PaginationResponseDTO;
+import br.com.todolist.dto.projection.TaskCollectionVersion;
+import br.com.todolist.dto.projection.ViewMode;
 import br.com.todolist.model.enumeration.Prioridade;
 import br.com.todolist.service.TaskService;
 
@@ -49,17 +72,74 @@ public class TaskControllerUnitTest {
 	
 	@Test
 	@DisplayName("Busca de Task pelo ID com sucesso.")
-	void deveRetornarTarefa_quandoIdExistir() {
+	void deveRetornarTarefa_quandoIdExistir() throws IOException {
 		Long id = 1L;
+		byte[] json = "{\"id\":1,\"titulo\":\"Atividade Giovani\"}".getBytes(StandardCharsets.UTF_8);
+		TaskJsonCache.Entry task = new TaskJsonCache(DataSize.ofKilobytes(1)).put(id, 0L, false, json);
 
-		TaskResponseDTO taskResponseDTO = new TaskResponseDTO(id, "Atividade Giovani", "Desenvolver uma API To-do List", 
-	    		Prioridade.ALTA, LocalDate.parse("2025-04-24"), false, "Faculdade", LocalDateTime.now());	    
-
-		when(taskService.getTaskById(id)).thenReturn(taskResponseDTO);
+		when(taskService.getTaskJsonVersion(id)).thenReturn(0L);
+		when(taskService.getTaskJson(id, 0L)).thenReturn(task);
 			
-		ResponseEntity<TaskResponseDTO> foundTask = taskController.getTaskById(id);
+		ServletWebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/tasks/1"), new MockHttpServletResponse());
+		ResponseEntity<TaskJsonCache.Entry> foundTask = taskController.getTaskById(id, webRequest);
+		
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		foundTask.getBody().writeTo(body);
 
 		assertEquals(HttpStatus.OK, foundTask.getStatusCode());
-		assertEquals(id, foundTask.getBody().getId());
+		assertEquals(MediaType.APPLICATION_JSON, foundTask.getHeaders().getContentType());
+		assertArrayEquals(json, body.toByteArray());
+		assertEquals("\"0\"", foundTask.getHeaders().getETag());
+	}
+	
+	@Test
+	@DisplayName("Busca de Task pelo ID sem alterações desde o ETag informado.")
+	void deveRetornarNotModified_quandoETagCorresponderAVersaoDaTask() {
+		Long id = 1L;
+		when(taskService.getTaskJsonVersion(id)).thenReturn(3L);
+		
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"3\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		
+		ResponseEntity<TaskJsonCache.Entry> foundTask = taskController.getTaskById(id, new ServletWebRequest(request, response));
+		
+		assertNull(foundTask);
+		assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+		verify(taskService, never()).getTaskJson(anyLong(), anyLong());
+	}
+	
+	@Test
+	@DisplayName("Listagem sem contagem e sem 'If-None-Match' não deve calcular o ETag.")
+	void naoDeveCalcularETag_quandoARequisicaoNaoForCondicionalNemContarOTotal() {
+		Pageable pageable = PageRequest.of(0, 10);
+		PaginationResponseDTO<TaskResponseDTO> tasks = new PaginationResponseDTO<>();
+		doReturn(tasks).when(taskService).getAllTasks(pageable, CountMode.NONE, ViewMode.FULL);
+		
+		ServletWebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse());
+		ResponseEntity<?> response = taskController.getAllTasks(pageable, "false", null, webRequest);
+		
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertNull(response.getHeaders().getETag());
+		verify(taskService, never()).getCollectionVersion();
+	}
+	
+	@Test
+	@DisplayName("Listagem condicional sem alterações desde o ETag informado.")
+	void deveRetornarNotModified_quandoETagCorresponderAoEstadoDaTabela() {
+		TaskCollectionVersion version = mock(TaskCollectionVersion.class);
+		when(version.getTotal()).thenReturn(2L);
+		when(version.getVersaoSum()).thenReturn(5L);
+		when(version.getMaxId()).thenReturn(9L);
+		when(taskService.getCollectionVersion()).thenReturn(version);
+		
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"2-5-9\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		
+		ResponseEntity<?> tasks = taskController.getAllTasks(PageRequest.of(0, 10), "false", null, new ServletWebRequest(request, response));
+		
+		assertNull(tasks);
+		assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
 	}
 }
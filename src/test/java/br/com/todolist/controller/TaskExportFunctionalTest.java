@@ -0,0 +1,121 @@
+package br.com.todolist.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.todolist.dto.model.TaskRequestDTO;
+import br.com.todolist.model.Role;
+import br.com.todolist.model.enumeration.Prioridade;
+import br.com.todolist.repository.TaskRepository;
+import br.com.todolist.repository.UserRepository;
+import br.com.todolist.service.TaskService;
+import br.com.todolist.support.TestUsers;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:task-export;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskExportFunctionalTest {
+	
+	private static final String DESCRICAO = "Linha 1, \"aspas\"\nLinha 2";
+	
+	@Autowired
+	private MockMvc mockMvc;
+	
+	@Autowired
+	private ObjectMapper objectMapper;
+	
+	@Autowired
+	private TaskService taskService;
+	
+	@Autowired
+	private TaskRepository taskRepository;
+	
+	@Autowired
+	private UserRepository userRepository;
+	
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	
+	private String authorization;
+	
+	@BeforeEach
+	void setUp() throws Exception {
+		authorization = TestUsers.bearer(mockMvc, userRepository, passwordEncoder, "export-user", Role.USER);
+		if(taskRepository.count() == 0) {
+			taskService.createTask(new TaskRequestDTO("Exportar", DESCRICAO, Prioridade.ALTA, LocalDate.now().plusDays(10), false, "Faculdade"));
+			taskService.createTask(new TaskRequestDTO("Simples", "", Prioridade.BAIXA, LocalDate.now().plusDays(10), false, "Casa"));
+		}
+	}
+	
+	@Test
+	@DisplayName("Exportação NDJSON deve escrever uma Task por linha.")
+	void deveExportarUmaTaskPorLinha_quandoOFormatoForNdjson() throws Exception {
+		String body = export("ndjson")
+				.andExpect(content().contentType("application/x-ndjson"))
+				.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=tasks.ndjson"))
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+		
+		assertTrue(body.endsWith("\n"));
+		String[] lines = body.split("\n");
+		assertEquals(2, lines.length);
+		
+		JsonNode first = objectMapper.readTree(lines[0]);
+		assertEquals("Exportar", first.get("titulo").asText());
+		assertEquals(DESCRICAO, first.get("descricao").asText());
+		assertEquals("Simples", objectMapper.readTree(lines[1]).get("titulo").asText());
+	}
+	
+	@Test
+	@DisplayName("Exportação CSV deve escrever o cabeçalho e delimitar vírgulas, aspas e quebras de linha.")
+	void deveExportarCsvComAspas_quandoOValorPossuirCaracteresEspeciais() throws Exception {
+		String body = export("csv")
+				.andExpect(content().contentTypeCompatibleWith(MediaType.parseMediaType("text/csv")))
+				.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=tasks.csv"))
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+		
+		assertTrue(body.startsWith("id,titulo,descricao,prioridade,dataLimite,concluida,categoria,criadaEm\n"));
+		assertTrue(body.contains(",Exportar,\"Linha 1, \"\"aspas\"\"\nLinha 2\",ALTA," + LocalDate.now().plusDays(10) + ",false,Faculdade,"));
+		assertTrue(body.contains(",Simples,,BAIXA,"));
+		assertTrue(body.endsWith("\n"));
+	}
+	
+	@Test
+	@DisplayName("Formato de exportação desconhecido deve retornar 400.")
+	void deveRetornarBadRequest_quandoOFormatoForDesconhecido() throws Exception {
+		mockMvc.perform(get("/api/tasks/export").param("format", "xml").header(HttpHeaders.AUTHORIZATION, authorization))
+				.andExpect(status().isBadRequest());
+	}
+	
+	private ResultActions export(String format) throws Exception {
+		MvcResult result = mockMvc.perform(get("/api/tasks/export").param("format", format).header(HttpHeaders.AUTHORIZATION, authorization))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,126 @@
+package br.com.todolist.controller;
+
+import static org.hamcrest.Matchers.hasKey;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import br.com.todolist.model.Role;
+import br.com.todolist.model.Task;
+import br.com.todolist.repository.TaskRepository;
+import br.com.todolist.repository.UserRepository;
+import br.com.todolist.support.TestUsers;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:task-import;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskImportFunctionalTest {
+	
+	private static final LocalDate DATA_LIMITE = LocalDate.now().plusDays(10);
+	
+	@Autowired
+	private MockMvc mockMvc;
+	
+	@Autowired
+	private TaskRepository taskRepository;
+	
+	@Autowired
+	private UserRepository userRepository;
+	
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	
+	private String authorization;
+	
+	@BeforeEach
+	void setUp() throws Exception {
+		authorization = TestUsers.bearer(mockMvc, userRepository, passwordEncoder, "import-user", Role.USER);
+	}
+	
+	@Test
+	@DisplayName("Importação NDJSON deve gravar as linhas válidas e reportar as inválidas.")
+	void deveImportarLinhasValidas_quandoOFormatoForNdjson() throws Exception {
+		String body = """
+				{"titulo": "Importar JSON", "descricao": "Primeira", "prioridade": "ALTA", "dataLimite": "%s", "categoria": "Importacao"}
+				{"titulo": "Quebrada", "descricao":
+				{"titulo": "Importar JSON 2", "descricao": "Terceira", "prioridade": "BAIXA", "dataLimite": "%s", "categoria": "Importacao"}
+				""".formatted(DATA_LIMITE, DATA_LIMITE);
+		
+		importTasks("application/x-ndjson", body)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalLines").value(3))
+				.andExpect(jsonPath("$.imported").value(2))
+				.andExpect(jsonPath("$.rejected").value(1))
+				.andExpect(jsonPath("$.rejectedLines[0].line").value(2))
+				.andExpect(jsonPath("$.rejectedLines[0].fieldErrors", hasKey("line")));
+	}
+	
+	@Test
+	@DisplayName("Importação CSV deve aceitar valores entre aspas com quebra de linha e reportar a linha rejeitada.")
+	void deveImportarRegistrosMultilinha_quandoOFormatoForCsv() throws Exception {
+		String body = "categoria,titulo,descricao,prioridade,dataLimite\n"
+				+ "Importacao,Importar CSV,\"Linha 1, \"\"aspas\"\"\nLinha 2\",MEDIA," + DATA_LIMITE + "\n"
+				+ "Importacao,Prioridade ruim,Descricao,URGENTE," + DATA_LIMITE + "\n"
+				+ "Importacao,Importar CSV 2,Descricao,baixa," + DATA_LIMITE + "\n";
+		
+		importTasks("text/csv", body)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalLines").value(3))
+				.andExpect(jsonPath("$.imported").value(2))
+				.andExpect(jsonPath("$.rejected").value(1))
+				.andExpect(jsonPath("$.rejectedLines[0].line").value(4))
+				.andExpect(jsonPath("$.rejectedLines[0].fieldErrors", hasKey("prioridade")));
+		
+		Task task = taskRepository.findAll().stream()
+				.filter(imported -> imported.getTitulo().equals("Importar CSV")).findFirst().orElseThrow();
+		assertEquals("Linha 1, \"aspas\"\nLinha 2", task.getDescricao());
+	}
+	
+	@Test
+	@DisplayName("Importação CSV deve rejeitar a linha cuja coluna 'concluida' não seja true ou false.")
+	void deveRejeitarALinha_quandoAColunaConcluidaNaoForBooleana() throws Exception {
+		String body = "titulo,descricao,prioridade,dataLimite,categoria,concluida\n"
+				+ "Concluida valida,Descricao,ALTA," + DATA_LIMITE + ",Importacao,TRUE\n"
+				+ "Concluida invalida,Descricao,ALTA," + DATA_LIMITE + ",Importacao,sim\n";
+		
+		importTasks("text/csv", body)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.imported").value(1))
+				.andExpect(jsonPath("$.rejected").value(1))
+				.andExpect(jsonPath("$.rejectedLines[0].line").value(3))
+				.andExpect(jsonPath("$.rejectedLines[0].fieldErrors", hasKey("concluida")));
+		
+		Task task = taskRepository.findAll().stream()
+				.filter(imported -> imported.getTitulo().equals("Concluida valida")).findFirst().orElseThrow();
+		assertEquals(true, task.getConcluida());
+	}
+	
+	@Test
+	@DisplayName("Cabeçalho CSV sem as colunas obrigatórias deve retornar 400.")
+	void deveRetornarBadRequest_quandoOCabecalhoNaoPossuirAsColunasObrigatorias() throws Exception {
+		importTasks("text/csv", "titulo,descricao\nSem colunas,Descricao\n")
+				.andExpect(status().isBadRequest());
+	}
+	
+	private ResultActions importTasks(String contentType, String body) throws Exception {
+		return mockMvc.perform(post("/api/tasks/import")
+				.header(HttpHeaders.AUTHORIZATION, authorization)
+				.header(HttpHeaders.CONTENT_TYPE, contentType)
+				.content(body));
+	}
+}
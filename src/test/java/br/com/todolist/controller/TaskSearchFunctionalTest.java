@@ -0,0 +1,116 @@
+package br.com.todolist.controller;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import br.com.todolist.dto.model.TaskRequestDTO;
+import br.com.todolist.model.Role;
+import br.com.todolist.model.enumeration.Prioridade;
+import br.com.todolist.repository.TaskCategoriaNgramRepository;
+import br.com.todolist.repository.TaskRepository;
+import br.com.todolist.repository.UserRepository;
+import br.com.todolist.service.CategoriaNgramIndex;
+import br.com.todolist.service.TaskService;
+import br.com.todolist.support.TestUsers;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:categoria-search;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskSearchFunctionalTest {
+	
+	private static final List<String> CATEGORIAS = List.of("Faculdade", "Trabalho", "100%_off", "1000aoff");
+	
+	@Autowired
+	private MockMvc mockMvc;
+	
+	@Autowired
+	private TaskService taskService;
+	
+	@Autowired
+	private TaskRepository taskRepository;
+	
+	@Autowired
+	private TaskCategoriaNgramRepository ngramRepository;
+	
+	@Autowired
+	private CategoriaNgramIndex categoriaNgramIndex;
+	
+	@Autowired
+	private UserRepository userRepository;
+	
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	
+	private String authorization;
+	
+	@BeforeEach
+	void setUp() throws Exception {
+		authorization = TestUsers.bearer(mockMvc, userRepository, passwordEncoder, "search-user", Role.USER);
+		if(taskRepository.count() == 0) {
+			CATEGORIAS.forEach(categoria -> taskService.createTask(new TaskRequestDTO("Tarefa", "",
+					Prioridade.MEDIA, LocalDate.now().plusDays(10), false, categoria)));
+		}
+	}
+	
+	@Test
+	@DisplayName("Busca por parte da categoria deve utilizar o índice e ignorar maiúsculas e minúsculas.")
+	void deveEncontrarTasks_quandoOTextoEstiverNoMeioDaCategoria() throws Exception {
+		search("CULDA").andExpect(jsonPath("$.tasks[*].categoria", containsInAnyOrder("Faculdade")));
+		search("off").andExpect(jsonPath("$.tasks[*].categoria", containsInAnyOrder("100%_off", "1000aoff")));
+		search("xyz").andExpect(jsonPath("$.tasks", empty()));
+	}
+	
+	@Test
+	@DisplayName("Textos com menos de três caracteres devem ser buscados sem o índice.")
+	void deveEncontrarTasks_quandoOTextoTiverMenosDeTresCaracteres() throws Exception {
+		search("ab").andExpect(jsonPath("$.tasks[*].categoria", containsInAnyOrder("Trabalho")));
+		search("%_").andExpect(jsonPath("$.tasks[*].categoria", containsInAnyOrder("100%_off")));
+	}
+	
+	@Test
+	@DisplayName("Os caracteres '%' e '_' devem ser tratados literalmente.")
+	void deveTratarCuringasLiteralmente_quandoOTextoContiverPorcentagemOuSublinhado() throws Exception {
+		search("0%_").andExpect(jsonPath("$.tasks[*].categoria", containsInAnyOrder("100%_off")));
+		search("%_o").andExpect(jsonPath("$.tasks[*].categoria", containsInAnyOrder("100%_off")));
+		search("___").andExpect(jsonPath("$.tasks", empty()));
+	}
+	
+	@Test
+	@DisplayName("O preenchimento do índice deve retomar as Tasks sem trigramas.")
+	void deveIndexarTasksRestantes_quandoOPreenchimentoForRetomado() throws Exception {
+		Long taskId = taskRepository.findAll().stream()
+				.filter(task -> task.getCategoria().equals("Trabalho")).findFirst().orElseThrow().getId();
+		ngramRepository.deleteByTaskIdIn(List.of(taskId));
+		search("balh").andExpect(jsonPath("$.tasks", empty()));
+		
+		categoriaNgramIndex.backfill();
+		
+		search("balh").andExpect(jsonPath("$.tasks[*].categoria", containsInAnyOrder("Trabalho")));
+	}
+	
+	private ResultActions search(String categoria) throws Exception {
+		return mockMvc.perform(get("/api/tasks/search")
+				.param("categoria", categoria)
+				.param("count", "false")
+				.header(HttpHeaders.AUTHORIZATION, authorization))
+				.andExpect(status().isOk());
+	}
+}
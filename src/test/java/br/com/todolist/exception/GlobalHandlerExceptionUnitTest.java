@@ -0,0 +1,44 @@
+package br.com.todolist.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class GlobalHandlerExceptionUnitTest {
+	
+	private final GlobalHandlerException globalHandlerException = new GlobalHandlerException(new SimpleMeterRegistry());
+	
+	@Test
+	@DisplayName("Conflito de bloqueio otimista sem 'If-Match' deve retornar 409.")
+	void deveRetornarConflict_quandoARequisicaoNaoInformarIfMatch() {
+		MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/tasks/1");
+		
+		ResponseEntity<ErrorResponse> response = globalHandlerException.handleOptimisticLockingFailureException(
+				new OptimisticLockingFailureException("Row was updated by another transaction."), new ServletWebRequest(request));
+		
+		assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+		assertEquals(HttpStatus.CONFLICT.value(), response.getBody().getStatus());
+	}
+	
+	@Test
+	@DisplayName("Conflito de bloqueio otimista com 'If-Match' deve retornar 412.")
+	void deveRetornarPreconditionFailed_quandoARequisicaoInformarIfMatch() {
+		MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/tasks/1");
+		request.addHeader(HttpHeaders.IF_MATCH, "\"3\"");
+		
+		ResponseEntity<ErrorResponse> response = globalHandlerException.handleOptimisticLockingFailureException(
+				new OptimisticLockingFailureException("Row was updated by another transaction."), new ServletWebRequest(request));
+		
+		assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+		assertEquals(HttpStatus.PRECONDITION_FAILED.value(), response.getBody().getStatus());
+	}
+}
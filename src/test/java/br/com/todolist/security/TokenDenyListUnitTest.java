@@ -0,0 +1,71 @@
+package br.com.todolist.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.todolist.repository.RevokedTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenDenyListUnitTest {
+	
+	@Mock
+	private RevokedTokenRepository revokedTokenRepository;
+	
+	private TokenDenyList tokenDenyList;
+	
+	@BeforeEach
+	void setUp() {
+		tokenDenyList = new TokenDenyList(revokedTokenRepository, 1000, 0.01);
+	}
+	
+	@Test
+	@DisplayName("Token revogado deve ser rejeitado.")
+	void deveRejeitarToken_quandoForRevogado() {
+		when(revokedTokenRepository.existsById("jti-1")).thenReturn(true);
+		
+		tokenDenyList.revoke("jti-1", Instant.now().plusSeconds(60));
+		
+		assertTrue(tokenDenyList.isRevoked("jti-1"));
+		assertFalse(tokenDenyList.isRevoked("jti-2"));
+	}
+	
+	@Test
+	@DisplayName("Revogação concorrente à reconstrução deve permanecer no novo filtro.")
+	void deveManterRevogacao_quandoOcorrerDuranteAReconstrucao() {
+		when(revokedTokenRepository.existsById("jti-1")).thenReturn(true);
+		when(revokedTokenRepository.findActiveJtis(any())).thenAnswer(invocation -> {
+			tokenDenyList.revoke("jti-1", Instant.now().plusSeconds(60));
+			return List.of();
+		});
+		
+		tokenDenyList.refresh();
+		
+		assertTrue(tokenDenyList.isRevoked("jti-1"));
+	}
+	
+	@Test
+	@DisplayName("Revogação já persistida deve ser descartada da lista local após a reconstrução.")
+	void deveDescartarRevogacaoLocal_quandoJaEstiverPersistida() {
+		when(revokedTokenRepository.existsById("jti-1")).thenReturn(true);
+		tokenDenyList.revoke("jti-1", Instant.now().plusSeconds(60));
+		when(revokedTokenRepository.findActiveJtis(any())).thenReturn(List.of("jti-1"));
+		
+		tokenDenyList.refresh();
+		when(revokedTokenRepository.findActiveJtis(any())).thenReturn(List.of());
+		tokenDenyList.refresh();
+		
+		assertFalse(tokenDenyList.isRevoked("jti-1"));
+	}
+}
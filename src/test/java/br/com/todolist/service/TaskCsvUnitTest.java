@@ -0,0 +1,63 @@
+package br.com.todolist.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.todolist.dto.model.TaskResponseDTO;
+import br.com.todolist.model.enumeration.Prioridade;
+
+public class TaskCsvUnitTest {
+	
+	@Test
+	@DisplayName("Registro exportado com vírgulas, aspas e quebras de linha deve ser lido com os mesmos valores.")
+	void deveLerOMesmoRegistro_quandoOValorPossuirQuebraDeLinha() throws IOException {
+		TaskResponseDTO task = new TaskResponseDTO(1L, "Estudar", "Linha 1, \"aspas\"\nLinha 2", Prioridade.ALTA,
+				LocalDate.of(2030, 1, 1), false, "Faculdade", LocalDateTime.of(2026, 10, 18, 10, 0), 0L);
+		TaskCsv.RecordReader reader = reader(TaskCsv.format(task) + "\nproxima\n");
+		
+		List<String> values = TaskCsv.parse(reader.next());
+		
+		assertEquals("Linha 1, \"aspas\"\nLinha 2", values.get(2));
+		assertEquals("Faculdade", values.get(6));
+		assertEquals(1, reader.recordLineNumber());
+		assertEquals("proxima", reader.next());
+		assertEquals(3, reader.recordLineNumber());
+		assertNull(reader.next());
+	}
+	
+	@Test
+	@DisplayName("Registro com aspas não finalizadas deve ser rejeitado.")
+	void deveRetornarExcecao_quandoAsAspasNaoForemFinalizadas() throws IOException {
+		TaskCsv.RecordReader reader = reader("a,\"b\nc\n");
+		
+		String record = reader.next();
+		
+		assertEquals("a,\"b\nc", record);
+		assertThrows(IllegalArgumentException.class, () -> TaskCsv.parse(record));
+	}
+	
+	@Test
+	@DisplayName("Leitura por linha física deve ignorar as aspas.")
+	void deveLerLinhasFisicas_quandoALeituraForPorLinha() throws IOException {
+		TaskCsv.RecordReader reader = reader("{\"a\": \"\\\"\"}\n{}\n");
+		
+		assertEquals("{\"a\": \"\\\"\"}", reader.nextLine());
+		assertEquals("{}", reader.nextLine());
+		assertEquals(2, reader.recordLineNumber());
+	}
+	
+	private static TaskCsv.RecordReader reader(String content) {
+		return new TaskCsv.RecordReader(new BufferedReader(new StringReader(content)));
+	}
+}
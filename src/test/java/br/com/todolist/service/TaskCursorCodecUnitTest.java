@@ -0,0 +1,43 @@
+package br.com.todolist.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import br.com.todolist.exception.customException.ValidationException;
+
+public class TaskCursorCodecUnitTest {
+	
+	@Test
+	@DisplayName("Cursor gerado deve ser decodificado com a mesma ordenação e posição.")
+	void deveDecodificarOCursor_quandoOTokenForGeradoPeloCodec() {
+		LocalDateTime dateTime = LocalDateTime.parse("2025-04-21T22:29:28");
+		Sort sort = Sort.by(Sort.Direction.DESC, "criadaEm");
+		
+		String token = TaskCursorCodec.encode(sort, ScrollPosition.forward(Map.of("criadaEm", dateTime, "id", 7L)));
+		TaskCursorCodec.Cursor cursor = TaskCursorCodec.decode(token);
+		
+		assertEquals(sort, cursor.sort());
+		assertEquals(dateTime, cursor.position().getKeys().get("criadaEm"));
+		assertEquals(7L, cursor.position().getKeys().get("id"));
+	}
+	
+	@Test
+	@DisplayName("Cursor inválido deve lançar a exceção ValidationException.")
+	void deveLancarExcecao_quandoOCursorForInvalido() {
+		assertThrows(ValidationException.class, () -> TaskCursorCodec.decode("cursor-invalido"));
+	}
+	
+	@Test
+	@DisplayName("Ordenação por atributo não suportado deve lançar a exceção ValidationException.")
+	void deveLancarExcecao_quandoAOrdenacaoNaoForSuportada() {
+		assertThrows(ValidationException.class, () -> TaskCursorCodec.sortOf(Sort.by("descricao")));
+	}
+}
@@ -2,10 +2,15 @@ package br.com.todolist.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -14,12 +19,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import br.com.todolist.dto.batch.TaskLookupResponseDTO;
+import br.com.todolist.dto.model.TaskPatchDTO;
 import br.com.todolist.dto.model.TaskRequestDTO;
 import br.com.todolist.dto.model.TaskResponseDTO;
 import br.com.todolist.exception.customException.InvalidTaskStateException;
+import br.com.todolist.exception.customException.PreconditionFailedException;
+import br.com.todolist.cache.TaskJsonCache;
+import br.com.todolist.exception.customException.ResourceNotFoundException;
+import br.com.todolist.mapper.TaskMapper;
 import br.com.todolist.model.Task;
 import br.com.todolist.model.enumeration.Prioridade;
 import br.com.todolist.repository.TaskRepository;
@@ -34,7 +44,16 @@ public class TaskServiceUnitTest {
 	private TaskRepository taskRepository;
 	
 	@Mock
-	private ModelMapper modelMapper;
+	private TaskMapper taskMapper;
+	
+	@Mock
+	private CategoriaNgramIndex categoriaNgramIndex;
+	
+	@Mock
+	private TaskRequestValidator taskRequestValidator;
+	
+	@Mock
+	private TaskJsonCache taskJsonCache;
 	
 	@Test
 	@DisplayName("Criação de Task com sucesso.")
@@ -52,9 +71,9 @@ public class TaskServiceUnitTest {
 	    TaskResponseDTO taskResponseDTO = new TaskResponseDTO(id, "Atividade Giovani", "Desenvolver uma API To-do List", 
 	    		Prioridade.ALTA, LocalDate.parse("2025-04-24"), false, "Faculdade", dateTime);	    
 
-	    when(modelMapper.map(taskResquestDTO, Task.class)).thenReturn(task);
+	    when(taskMapper.toEntity(taskResquestDTO)).thenReturn(task);
 	    when(taskRepository.save(task)).thenReturn(task);
-	    when(modelMapper.map(task, TaskResponseDTO.class)).thenReturn(taskResponseDTO);
+	    when(taskMapper.toResponseDTO(task)).thenReturn(taskResponseDTO);
 		
 	    TaskResponseDTO taskCreatedDTO = taskService.createTask(taskResquestDTO);
 
@@ -76,7 +95,7 @@ public class TaskServiceUnitTest {
 	    		Prioridade.ALTA, LocalDate.parse("2025-04-24"), false, "Faculdade", dateTime);	    
 
 	    when(taskRepository.findById(id)).thenReturn(Optional.of(task));
-	    when(modelMapper.map(task, TaskResponseDTO.class)).thenReturn(taskResponseDTO);
+	    when(taskMapper.toResponseDTO(task)).thenReturn(taskResponseDTO);
 		
 	    TaskResponseDTO foundTask = taskService.getTaskById(id);
 
@@ -87,15 +106,91 @@ public class TaskServiceUnitTest {
 	@Test
 	@DisplayName("Tentar excluir tarefa já concluída, resultando no lançamento da exceção InvalidTaskStateException.")
 	void deveLancarExcecao_quandoATaskEstiverConcluida() {
-		LocalDateTime dateTime = LocalDateTime.now();
 		Long id = 1L;
-	    
-	    Task task = new Task("Atividade Giovani", "Desenvolver uma API To-do List", 
-	    		Prioridade.ALTA, LocalDate.parse("2025-04-24"), true, "Faculdade", dateTime);
-        ReflectionTestUtils.setField(task, "id", id); // ID via reflexão
 		
-        when(taskRepository.findById(id)).thenReturn(Optional.of(task));
+        when(taskRepository.deleteIfPending(id)).thenReturn(0);
+        when(taskRepository.existsById(id)).thenReturn(true);
         
         assertThrows(InvalidTaskStateException.class, () -> taskService.deleteTask(id));
 	}
+	
+	@Test
+	@DisplayName("Tentar concluir tarefa já concluída, resultando no lançamento da exceção InvalidTaskStateException.")
+	void deveLancarExcecao_quandoConcluirTaskJaConcluida() {
+		Long id = 1L;
+		
+		when(taskRepository.completeIfPending(id)).thenReturn(0);
+		when(taskRepository.existsById(id)).thenReturn(true);
+		
+		assertThrows(InvalidTaskStateException.class, () -> taskService.completedTask(id));
+	}
+	
+	@Test
+	@DisplayName("Tentar concluir tarefa inexistente, resultando no lançamento da exceção ResourceNotFoundException.")
+	void deveLancarExcecao_quandoConcluirTaskInexistente() {
+		Long id = 1L;
+		
+		when(taskRepository.completeIfPending(id)).thenReturn(0);
+		when(taskRepository.existsById(id)).thenReturn(false);
+		
+		assertThrows(ResourceNotFoundException.class, () -> taskService.completedTask(id));
+	}
+	
+	@Test
+	@DisplayName("Busca de Tasks por IDs mantendo a ordem e informando os IDs inexistentes.")
+	void deveRetornarTasksNaOrdemDosIds_quandoAlgunsIdsNaoExistirem() {
+		ReflectionTestUtils.setField(taskService, "maxLookupSize", 100);
+		LocalDateTime dateTime = LocalDateTime.now();
+		
+		Task primeira = new Task("Primeira", "Descrição", Prioridade.ALTA, LocalDate.parse("2025-04-24"), false, "Faculdade", dateTime);
+		ReflectionTestUtils.setField(primeira, "id", 1L);
+		Task terceira = new Task("Terceira", "Descrição", Prioridade.BAIXA, LocalDate.parse("2025-04-24"), false, "Casa", dateTime);
+		ReflectionTestUtils.setField(terceira, "id", 3L);
+		
+		TaskResponseDTO primeiraDTO = new TaskResponseDTO(1L, "Primeira", "Descrição", Prioridade.ALTA, LocalDate.parse("2025-04-24"), false, "Faculdade", dateTime);
+		TaskResponseDTO terceiraDTO = new TaskResponseDTO(3L, "Terceira", "Descrição", Prioridade.BAIXA, LocalDate.parse("2025-04-24"), false, "Casa", dateTime);
+		
+		when(taskRepository.findAllById(new LinkedHashSet<>(List.of(3L, 2L, 1L)))).thenReturn(List.of(primeira, terceira));
+		when(taskMapper.toResponseDTO(primeira)).thenReturn(primeiraDTO);
+		when(taskMapper.toResponseDTO(terceira)).thenReturn(terceiraDTO);
+		
+		TaskLookupResponseDTO result = taskService.getTasksByIds(List.of(3L, 2L, 1L, 3L));
+		
+		assertEquals(List.of(terceiraDTO, primeiraDTO), result.getTasks());
+		assertEquals(List.of(2L), result.getMissingIds());
+	}
+	
+	@Test
+	@DisplayName("Atualização de Task rejeitada quando a versão do If-Match estiver desatualizada.")
+	void deveLancarPreconditionFailed_quandoVersaoEsperadaForDiferente() {
+		Long id = 1L;
+		Task task = new Task("Atividade Giovani", "Desenvolver uma API To-do List", 
+	    		Prioridade.ALTA, LocalDate.parse("2025-04-24"), false, "Faculdade", LocalDateTime.now());
+		ReflectionTestUtils.setField(task, "id", id);
+		ReflectionTestUtils.setField(task, "versao", 2L);
+		
+		TaskRequestDTO taskRequestDTO = new TaskRequestDTO("Atividade Giovani", "Nova descrição", 
+	    		Prioridade.ALTA, LocalDate.parse("2025-04-24"), false, "Faculdade");
+		
+		when(taskRepository.findById(id)).thenReturn(Optional.of(task));
+		
+		assertThrows(PreconditionFailedException.class, () -> taskService.putTask(id, taskRequestDTO, 1L));
+	}
+	
+	@Test
+	@DisplayName("Atualização parcial de Task concluída rejeitada pelo UPDATE condicional.")
+	void deveLancarInvalidTaskState_quandoPatchNaoAfetarTaskConcluida() {
+		Long id = 1L;
+		Task task = new Task("Atividade Giovani", "Desenvolver uma API To-do List", 
+	    		Prioridade.ALTA, LocalDate.parse("2025-04-24"), true, "Faculdade", LocalDateTime.now());
+		ReflectionTestUtils.setField(task, "id", id);
+		
+		TaskPatchDTO taskPatchDTO = new TaskPatchDTO();
+		taskPatchDTO.setTitulo(Optional.of("Novo título"));
+		
+		when(taskRepository.patchIfPending(eq(id), anyMap(), isNull())).thenReturn(0);
+		when(taskRepository.findById(id)).thenReturn(Optional.of(task));
+		
+		assertThrows(InvalidTaskStateException.class, () -> taskService.patchTask(id, taskPatchDTO, null));
+	}
 }
@@ -0,0 +1,69 @@
+package br.com.todolist.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+/**
+ * Instruções SQL executadas durante uma ação medida pelo SqlStatementCounter.
+ * 
+ * <p>As chamadas à sequence das Tasks são contadas à parte, pois dependem apenas de quantos IDs ainda
+ * restam no bloco alocado pelo Hibernate ('allocationSize'), e não do 'endpoint' medido.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record QueryCount(List<String> statements, long entityLoads, long secondLevelCacheHits) {
+	
+	public long selects() {
+		return count("select");
+	}
+	
+	public long inserts() {
+		return count("insert");
+	}
+	
+	public long updates() {
+		return count("update");
+	}
+	
+	public long deletes() {
+		return count("delete");
+	}
+	
+	public long sequenceCalls() {
+		return statements.stream().filter(QueryCount::isSequenceCall).count();
+	}
+	
+	/**
+	 * Verifica se a ação executou exatamente a quantidade de instruções informada de cada tipo.
+	 * 
+	 * @param Recebe a quantidade esperada de SELECTs.
+	 * @param Recebe a quantidade esperada de INSERTs.
+	 * @param Recebe a quantidade esperada de UPDATEs.
+	 * @param Recebe a quantidade esperada de DELETEs.
+	 */
+	public void assertBudget(long selects, long inserts, long updates, long deletes) {
+		assertEquals(List.of(selects, inserts, updates, deletes), List.of(selects(), inserts(), updates(), deletes()),
+				() -> "Query budget (select, insert, update, delete) exceeded.%n%s".formatted(this));
+	}
+	
+	private long count(String type) {
+		return statements.stream().filter(statement -> statement.startsWith(type) && !isSequenceCall(statement)).count();
+	}
+	
+	private static boolean isSequenceCall(String statement) {
+		return statement.contains("next value for") || statement.contains("nextval(");
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder description = new StringBuilder()
+				.append("entity loads: ").append(entityLoads)
+				.append(", second-level cache hits: ").append(secondLevelCacheHits)
+				.append(System.lineSeparator());
+		statements.forEach(statement -> description.append("  ").append(statement).append(System.lineSeparator()));
+		return description.toString();
+	}
+}
@@ -0,0 +1,46 @@
+package br.com.todolist.support;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Decora o DataSource da aplicação com o datasource-proxy, registrando as instruções no SqlStatementCounter.
+ * 
+ * <p>Uso: {@code @Import(QueryCountingConfiguration.class)} nos testes que verificam o orçamento de
+ * consultas de cada 'endpoint'.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountingConfiguration {
+	
+	@Bean
+	public static SqlStatementCounter sqlStatementCounter(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+		return new SqlStatementCounter(entityManagerFactory);
+	}
+	
+	@Bean
+	public static BeanPostProcessor queryCountingDataSourcePostProcessor(ObjectProvider<SqlStatementCounter> sqlStatementCounter) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if(bean instanceof DataSource dataSource) {
+					return ProxyDataSourceBuilder.create(dataSource)
+							.name("query-budget")
+							.listener(sqlStatementCounter.getObject())
+							.build();
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,76 @@
+package br.com.todolist.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Registra as instruções SQL executadas pela thread atual, a partir do DataSource decorado pelo
+ * datasource-proxy.
+ * 
+ * <p>Com o MockMvc, cada requisição é processada na própria thread do teste, portanto as instruções
+ * registradas durante o 'count' correspondem exatamente à requisição medida. As estatísticas do Hibernate
+ * são zeradas junto, e acompanham o resultado para o diagnóstico das falhas.</p>
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+	
+	/**
+	 * Ação medida, normalmente uma requisição do MockMvc.
+	 */
+	@FunctionalInterface
+	public interface Action {
+		void run() throws Exception;
+	}
+	
+	private final ThreadLocal<List<String>> statements = new ThreadLocal<>();
+	private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+	
+	public SqlStatementCounter(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+		this.entityManagerFactory = entityManagerFactory;
+	}
+	
+	/**
+	 * Executa a ação e retorna as instruções SQL executadas por ela.
+	 * 
+	 * @param Recebe a ação medida.
+	 * @return Retorna um QueryCount com as instruções registradas.
+	 * @throws Retorna a mesma exceção lançada pela ação.
+	 */
+	public QueryCount count(Action action) throws Exception {
+		Statistics statistics = entityManagerFactory.getObject().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		List<String> recorded = new ArrayList<>();
+		statements.set(recorded);
+		try {
+			action.run();
+		} finally {
+			statements.remove();
+		}
+		return new QueryCount(recorded, statistics.getEntityLoadCount(), statistics.getSecondLevelCacheHitCount());
+	}
+	
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+	
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		List<String> recorded = statements.get();
+		if(recorded != null) {
+			queryInfoList.forEach(queryInfo -> recorded.add(queryInfo.getQuery().trim().toLowerCase(Locale.ROOT)));
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package br.com.todolist.support;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import br.com.todolist.model.Role;
+import br.com.todolist.model.User;
+import br.com.todolist.repository.UserRepository;
+
+/**
+ * Cria usuários de teste e obtém os seus tokens pelo 'endpoint' de autenticação.
+ * 
+ * @author Pedro Lauton
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public final class TestUsers {
+	
+	private TestUsers() {
+	}
+	
+	/**
+	 * Cadastra o usuário, caso ainda não exista, com a senha igual ao nome.
+	 * 
+	 * @param Recebe o UserRepository.
+	 * @param Recebe o PasswordEncoder da aplicação.
+	 * @param Recebe o nome do usuário.
+	 * @param Recebe o papel do usuário.
+	 */
+	public static void ensureUser(UserRepository userRepository, PasswordEncoder passwordEncoder, String username, Role role) {
+		if(userRepository.findByUsername(username).isEmpty()) {
+			User user = new User(null, username, List.of(role));
+			user.setPassword(passwordEncoder.encode(username));
+			userRepository.save(user);
+		}
+	}
+	
+	/**
+	 * Retorna a requisição de autenticação do usuário.
+	 * 
+	 * @param Recebe o nome do usuário.
+	 * @return Retorna o RequestBuilder do POST /api/auth/authenticate.
+	 */
+	public static RequestBuilder authenticate(String username) {
+		return post("/api/auth/authenticate")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"username\": \"%s\", \"password\": \"%s\"}".formatted(username, username));
+	}
+	
+	/**
+	 * Cadastra o usuário, caso necessário, e retorna o valor do cabeçalho 'Authorization' com o seu token.
+	 * 
+	 * @param Recebe o MockMvc da aplicação.
+	 * @param Recebe o UserRepository.
+	 * @param Recebe o PasswordEncoder da aplicação.
+	 * @param Recebe o nome do usuário.
+	 * @param Recebe o papel do usuário.
+	 * @return Retorna o cabeçalho no formato 'Bearer token'.
+	 */
+	public static String bearer(MockMvc mockMvc, UserRepository userRepository, PasswordEncoder passwordEncoder,
+			String username, Role role) throws Exception {
+		ensureUser(userRepository, passwordEncoder, username, role);
+		return "Bearer " + mockMvc.perform(authenticate(username)).andReturn().getResponse().getContentAsString();
+	}
+}
@@ -0,0 +1,78 @@
+package br.com.todolist.timing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ServerTimingFilterUnitTest {
+	
+	private static final String HEADER = "X-Debug-Timing";
+	
+	@Test
+	@DisplayName("Cabeçalho de depuração com o segredo deve publicar o Server-Timing.")
+	void devePublicarServerTiming_quandoOCabecalhoContiverOSegredo() throws Exception {
+		MockHttpServletResponse response = filter(new ServerTimingFilter(true, HEADER, "s3cr3t", 0), "s3cr3t");
+		
+		assertNotNull(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+	}
+	
+	@Test
+	@DisplayName("Cabeçalho de depuração com valor diferente do segredo deve ser ignorado.")
+	void naoDevePublicarServerTiming_quandoOSegredoForDiferente() throws Exception {
+		MockHttpServletResponse response = filter(new ServerTimingFilter(true, HEADER, "s3cr3t", 0), "true");
+		
+		assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+	}
+	
+	@Test
+	@DisplayName("Sem segredo configurado, o cabeçalho de depuração deve ser ignorado.")
+	void naoDevePublicarServerTiming_quandoNaoHouverSegredoConfigurado() throws Exception {
+		MockHttpServletResponse response = filter(new ServerTimingFilter(true, HEADER, "", 0), "");
+		
+		assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+	}
+	
+	@Test
+	@DisplayName("Requisição anônima sorteada pela amostragem deve publicar o Server-Timing.")
+	void devePublicarServerTiming_quandoARequisicaoForAmostrada() throws Exception {
+		MockHttpServletResponse response = filter(new ServerTimingFilter(true, HEADER, "", 1), null);
+		
+		assertNotNull(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+	}
+	
+	@Test
+	@DisplayName("Corpo já escrito deve ser enviado mesmo quando a cadeia lançar uma exceção.")
+	void deveEnviarOCorpo_quandoACadeiaLancarExcecaoAposEscrever() throws Exception {
+		ServerTimingFilter filter = new ServerTimingFilter(true, HEADER, "s3cr3t", 0);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+		request.addHeader(HEADER, "s3cr3t");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		
+		assertThrows(IOException.class, () -> filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+			servletResponse.getWriter().write("parcial");
+			throw new IOException("Conexão encerrada.");
+		}));
+		
+		assertEquals("parcial", response.getContentAsString());
+		assertNotNull(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+	}
+	
+	private static MockHttpServletResponse filter(ServerTimingFilter filter, String debug) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+		if(debug != null) {
+			request.addHeader(HEADER, debug);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
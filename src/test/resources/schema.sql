@@ -1,16 +1,34 @@
+CREATE SEQUENCE task_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE task (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     titulo VARCHAR(20) NOT NULL,
     descricao VARCHAR(100), 
     prioridade VARCHAR(10) NOT NULL, 
     dataLimite DATE NOT NULL,
     concluida BOOLEAN NOT NULL,
     categoria VARCHAR(20) NOT NULL,
-    criadaEm TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP 
+    criadaEm TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    versao BIGINT NOT NULL DEFAULT 0,
+    atualizadaEm TIMESTAMP
 );
 
 CREATE TABLE users (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     username VARCHAR(100) NOT NULL,
     password VARCHAR(100) NOT NULL
-);
\ No newline at end of file
+);
+
+CREATE TABLE revoked_token (
+    jti VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL
+);
+
+
+CREATE TABLE task_categoria_ngram (
+    task_id BIGINT NOT NULL,
+    ngram VARCHAR(3) NOT NULL,
+    PRIMARY KEY (task_id, ngram)
+);
+
+CREATE INDEX idx_task_categoria_ngram ON task_categoria_ngram (ngram, task_id);